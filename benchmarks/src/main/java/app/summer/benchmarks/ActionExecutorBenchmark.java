@@ -0,0 +1,136 @@
+package app.summer.benchmarks;
+
+import app.javache.http.HttpStatus;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActionExecutorBenchmark {
+
+    private static final int ACTION_MILLIS = 50;
+
+    private static final long CLIENT_THREAD_STACK_SIZE = 256 * 1024;
+
+    private static final String SLOW_REQUEST_URL = "/slow/" + ACTION_MILLIS;
+
+    @Param({"caller", "pool"})
+    public String actionExecutor;
+
+    @Param({"100", "1000", "10000"})
+    public int concurrentRequests;
+
+    private BenchmarkApplication application;
+
+    private CountDownLatch startGate;
+
+    private CountDownLatch completedRequests;
+
+    private AtomicInteger succeededRequests;
+
+    private AtomicInteger failedRequests;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Map<String, String> configuration = new HashMap<>();
+        configuration.put("action-executor-threads", "256");
+        configuration.put("action-executor-queue-capacity", String.valueOf(this.concurrentRequests));
+        configuration.put("async-timeout-ms", "60000");
+
+        if (!"caller".equals(this.actionExecutor)) {
+            configuration.put("action-executor", this.actionExecutor);
+        }
+
+        this.application = BenchmarkApplication.start(0, configuration);
+    }
+
+    @Setup(Level.Invocation)
+    public void startClients() throws InterruptedException {
+        this.startGate = new CountDownLatch(1);
+        this.completedRequests = new CountDownLatch(this.concurrentRequests);
+        this.succeededRequests = new AtomicInteger();
+        this.failedRequests = new AtomicInteger();
+
+        CountDownLatch readyClients = new CountDownLatch(this.concurrentRequests);
+
+        for (int i = 0; i < this.concurrentRequests; i++) {
+            Thread clientThread = new Thread(null, () -> this.sendRequest(readyClients), "benchmark-client-" + i, CLIENT_THREAD_STACK_SIZE);
+            clientThread.setDaemon(true);
+            clientThread.start();
+        }
+
+        readyClients.await();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.application.close();
+    }
+
+    private void sendRequest(CountDownLatch readyClients) {
+        try {
+            readyClients.countDown();
+            this.startGate.await();
+
+            InMemoryResponse response = this.application.dispatch(new InMemoryRequest("GET", SLOW_REQUEST_URL));
+
+            if (response.getStatusCode() == HttpStatus.OK) {
+                this.succeededRequests.incrementAndGet();
+            } else {
+                this.failedRequests.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.failedRequests.incrementAndGet();
+        } finally {
+            this.completedRequests.countDown();
+        }
+    }
+
+    @Benchmark
+    public void concurrentSlowRequests(RequestOutcomes requestOutcomes) throws InterruptedException {
+        this.startGate.countDown();
+        this.completedRequests.await();
+
+        requestOutcomes.succeededRequests += this.succeededRequests.get();
+        requestOutcomes.failedRequests += this.failedRequests.get();
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class RequestOutcomes {
+
+        public long succeededRequests;
+
+        public long failedRequests;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.succeededRequests = 0;
+            this.failedRequests = 0;
+        }
+    }
+}
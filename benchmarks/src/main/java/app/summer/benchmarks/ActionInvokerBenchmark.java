@@ -0,0 +1,104 @@
+package app.summer.benchmarks;
+
+import app.summer.core.ActionInvoker;
+import app.summer.core.ActionInvokers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActionInvokerBenchmark {
+
+    private static final Object[][] ACTION_ARGUMENTS = {
+            {},
+            {42},
+            {42, "name", 7L},
+            {42, "name", 7L, true, 1.5d, "city"}
+    };
+
+    @Param({"0", "1", "3", "6"})
+    public int argumentCount;
+
+    private Controller controller;
+
+    private Method action;
+
+    private ActionInvoker actionInvoker;
+
+    private Object[] actionArguments;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        this.controller = new Controller();
+
+        switch (this.argumentCount) {
+            case 0:
+                this.action = Controller.class.getMethod("noArguments");
+                this.actionArguments = ACTION_ARGUMENTS[0];
+                break;
+            case 1:
+                this.action = Controller.class.getMethod("oneArgument", int.class);
+                this.actionArguments = ACTION_ARGUMENTS[1];
+                break;
+            case 3:
+                this.action = Controller.class.getMethod("threeArguments", int.class, String.class, long.class);
+                this.actionArguments = ACTION_ARGUMENTS[2];
+                break;
+            case 6:
+                this.action = Controller.class.getMethod("sixArguments", int.class, String.class, long.class, boolean.class, double.class, String.class);
+                this.actionArguments = ACTION_ARGUMENTS[3];
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported argument count " + this.argumentCount);
+        }
+
+        this.actionInvoker = ActionInvokers.createActionInvoker(this.controller, this.action);
+    }
+
+    @Benchmark
+    public Object reflection() throws IllegalAccessException, InvocationTargetException {
+        return this.action.invoke(this.controller, this.actionArguments);
+    }
+
+    @Benchmark
+    public Object methodHandle() throws IllegalAccessException, InvocationTargetException {
+        return this.actionInvoker.invoke(this.actionArguments);
+    }
+
+    public static class Controller {
+
+        public String noArguments() {
+            return "index";
+        }
+
+        public String oneArgument(int id) {
+            return id > 0 ? "user" : "anonymous";
+        }
+
+        public String threeArguments(int id, String name, long version) {
+            return version > id ? name : "stale";
+        }
+
+        public String sixArguments(int id, String name, long version, boolean active, double score, String city) {
+            return active && score > id ? city : name;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package app.summer.benchmarks;
+
+import app.broccolina.solet.SoletConfigImpl;
+import app.summer.benchmarks.app.BenchmarkController;
+import app.summer.benchmarks.app.RowRepository;
+import app.summer.core.DispatcherSolet;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public final class BenchmarkApplication implements Closeable {
+
+    public static final String GENERATED_ROUTE_PREFIX = "/generated/r";
+
+    private static final Class<?>[] APPLICATION_CLASSES = {BenchmarkController.class, RowRepository.class};
+
+    private static final String GENERATED_PACKAGE = "app.summer.benchmarks.generated";
+
+    private static final String GENERATED_CONTROLLER = "GeneratedRoutesController";
+
+    private static final String LAYOUT_TEMPLATE = "<html><head><title>${#block title}Summer${/block}</title></head>"
+            + "<body>${#include partials/header}${#block content}${/block}${#include partials/footer}</body></html>";
+
+    private static final String HEADER_TEMPLATE = "<header><h1>Summer benchmark</h1><nav><a href=\"/\">Home</a> <a href=\"/users/1\">User</a></nav></header>";
+
+    private static final String FOOTER_TEMPLATE = "<footer>Rendered by Summer</footer>";
+
+    private static final String ROWS_TEMPLATE = "${#layout layout}${#block title}${title}${/block}${#block content}"
+            + "<table><thead><tr><th>Id</th><th>Name</th><th>City</th><th>Status</th></tr></thead><tbody>"
+            + "${#for row : rows}<tr><td>${row.id}</td><td>${row.name}</td><td>${row.address.city}</td>"
+            + "<td>${#if row.active}active${#else}inactive${/if}</td></tr>${/for}"
+            + "</tbody></table>${#if !rows}<p>No rows</p>${/if}${/block}";
+
+    private final Path applicationFolder;
+
+    private final DispatcherSolet dispatcherSolet;
+
+    private BenchmarkApplication(Path applicationFolder, DispatcherSolet dispatcherSolet) {
+        this.applicationFolder = applicationFolder;
+        this.dispatcherSolet = dispatcherSolet;
+    }
+
+    public static BenchmarkApplication start(int generatedRouteCount, Map<String, String> configuration) throws IOException {
+        Path applicationFolder = Files.createTempDirectory("summer-benchmark");
+        Path classesFolder = Files.createDirectories(applicationFolder.resolve("classes"));
+
+        copyApplicationClasses(classesFolder);
+
+        if (generatedRouteCount > 0) {
+            compileGeneratedController(applicationFolder, classesFolder, generatedRouteCount);
+        }
+
+        writeTemplates(applicationFolder.resolve("resources").resolve("templates"));
+        writeStaticResources(applicationFolder.resolve("resources").resolve("static"));
+
+        SoletConfigImpl soletConfig = new SoletConfigImpl();
+        soletConfig.setAttribute("application-folder", applicationFolder.toString() + File.separator);
+
+        for (Map.Entry<String, String> attribute : configuration.entrySet()) {
+            soletConfig.setAttribute(attribute.getKey(), attribute.getValue());
+        }
+
+        DispatcherSolet dispatcherSolet = new DispatcherSolet();
+        dispatcherSolet.init(soletConfig);
+
+        return new BenchmarkApplication(applicationFolder, dispatcherSolet);
+    }
+
+    private static void copyApplicationClasses(Path classesFolder) throws IOException {
+        for (Class<?> applicationClass : APPLICATION_CLASSES) {
+            String classFileName = applicationClass.getName().replace('.', '/') + ".class";
+            Path classFile = classesFolder.resolve(classFileName);
+
+            Files.createDirectories(classFile.getParent());
+
+            try (InputStream classFileStream = applicationClass.getClassLoader().getResourceAsStream(classFileName)) {
+                if (classFileStream == null) {
+                    throw new IOException("Missing class file " + classFileName);
+                }
+
+                Files.copy(classFileStream, classFile);
+            }
+        }
+    }
+
+    private static void compileGeneratedController(Path applicationFolder, Path classesFolder, int routeCount) throws IOException {
+        JavaCompiler javaCompiler = ToolProvider.getSystemJavaCompiler();
+
+        if (javaCompiler == null) {
+            throw new IllegalStateException("Generated routes require a JDK with the system Java compiler");
+        }
+
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(GENERATED_PACKAGE).append(";\n")
+                .append("import app.summer.api.*;\n")
+                .append("@Controller\npublic class ").append(GENERATED_CONTROLLER).append(" {\n");
+
+        for (int i = 0; i < routeCount; i++) {
+            source.append("    @GetMapping(route = \"").append(GENERATED_ROUTE_PREFIX).append(i).append("/{id}\")\n")
+                    .append("    public String route").append(i).append("(@PathVariable(name = \"id\") int id) { return \"r")
+                    .append(i).append(" \" + id; }\n");
+        }
+
+        Path sourceFile = applicationFolder.resolve("generated-src").resolve(GENERATED_PACKAGE.replace('.', File.separatorChar)).resolve(GENERATED_CONTROLLER + ".java");
+
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, source.append("}\n").toString().getBytes(StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream compilerOutput = new ByteArrayOutputStream();
+        int exitCode = javaCompiler.run(null, compilerOutput, compilerOutput,
+                "-nowarn",
+                "-cp", System.getProperty("java.class.path"),
+                "-d", classesFolder.toString(),
+                sourceFile.toString());
+
+        if (exitCode != 0) {
+            throw new IOException("Could not compile generated routes: " + compilerOutput.toString(StandardCharsets.UTF_8.name()));
+        }
+    }
+
+    private static void writeFile(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeTemplates(Path templatesFolder) throws IOException {
+        writeFile(templatesFolder.resolve("layout.html"), LAYOUT_TEMPLATE);
+        writeFile(templatesFolder.resolve("partials").resolve("header.html"), HEADER_TEMPLATE);
+        writeFile(templatesFolder.resolve("partials").resolve("footer.html"), FOOTER_TEMPLATE);
+        writeFile(templatesFolder.resolve("rows.html"), ROWS_TEMPLATE);
+    }
+
+    private static void writeStaticResources(Path staticFolder) throws IOException {
+        StringBuilder stylesheet = new StringBuilder();
+
+        for (int i = 0; i < 64; i++) {
+            stylesheet.append(".column-").append(i).append(" { width: ").append(i * 10).append("px; color: #333; }\n");
+        }
+
+        writeFile(staticFolder.resolve("site.css"), stylesheet.toString());
+    }
+
+    public String getTemplatesFolder() {
+        return this.applicationFolder.resolve("resources").resolve("templates").toString() + File.separator;
+    }
+
+    public DispatcherSolet getDispatcherSolet() {
+        return this.dispatcherSolet;
+    }
+
+    public InMemoryResponse dispatch(InMemoryRequest request) {
+        InMemoryResponse response = new InMemoryResponse();
+
+        this.dispatcherSolet.service(request, response);
+
+        return response;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.dispatcherSolet.destroy();
+
+        try (Stream<Path> paths = Files.walk(this.applicationFolder)) {
+            Iterator<Path> sortedPaths = paths.sorted(Comparator.reverseOrder()).iterator();
+
+            while (sortedPaths.hasNext()) {
+                Files.deleteIfExists(sortedPaths.next());
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package app.summer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatchBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int routeCount;
+
+    private BenchmarkApplication application;
+
+    private InMemoryRequest plainTextRequest;
+
+    private InMemoryRequest pathVariableRequest;
+
+    private InMemoryRequest generatedRouteRequest;
+
+    private InMemoryRequest formBindingRequest;
+
+    private InMemoryRequest headRequest;
+
+    private InMemoryRequest optionsRequest;
+
+    private InMemoryRequest methodNotAllowedRequest;
+
+    private InMemoryRequest notFoundRequest;
+
+    private InMemoryRequest cachedRequest;
+
+    private InMemoryRequest staticResourceRequest;
+
+    private InMemoryRequest asyncRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.application = BenchmarkApplication.start(this.routeCount, Collections.emptyMap());
+
+        this.plainTextRequest = new InMemoryRequest("GET", "/");
+        this.pathVariableRequest = new InMemoryRequest("GET", "/users/42");
+        this.generatedRouteRequest = new InMemoryRequest("GET", BenchmarkApplication.GENERATED_ROUTE_PREFIX + (this.routeCount / 2) + "/42");
+        this.formBindingRequest = new InMemoryRequest("POST", "/users")
+                .withBodyParameter("name", "Ada")
+                .withBodyParameter("age", "36")
+                .withBodyParameter("email", "ada@example.com");
+        this.headRequest = new InMemoryRequest("HEAD", "/users/42");
+        this.optionsRequest = new InMemoryRequest("OPTIONS", "/users/42");
+        this.methodNotAllowedRequest = new InMemoryRequest("DELETE", "/");
+        this.notFoundRequest = new InMemoryRequest("GET", "/missing/page");
+        this.cachedRequest = new InMemoryRequest("GET", "/cached/7");
+        this.staticResourceRequest = new InMemoryRequest("GET", "/site.css");
+        this.asyncRequest = new InMemoryRequest("GET", "/async");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.application.close();
+    }
+
+    @Benchmark
+    public InMemoryResponse plainText() {
+        return this.application.dispatch(this.plainTextRequest);
+    }
+
+    @Benchmark
+    public InMemoryResponse pathVariable() {
+        return this.application.dispatch(this.pathVariableRequest);
+    }
+
+    @Benchmark
+    public InMemoryResponse generatedRoute() {
+        return this.application.dispatch(this.generatedRouteRequest);
+    }
+
+    @Benchmark
+    public InMemoryResponse formBinding() {
+        return this.application.dispatch(this.formBindingRequest);
+    }
+
+    @Benchmark
+    public InMemoryResponse head() {
+        return this.application.dispatch(this.headRequest);
+    }
+
+    @Benchmark
+    public InMemoryResponse options() {
+        return this.application.dispatch(this.optionsRequest);
+    }
+
+    @Benchmark
+    public InMemoryResponse methodNotAllowed() {
+        return this.application.dispatch(this.methodNotAllowedRequest);
+    }
+
+    @Benchmark
+    public InMemoryResponse notFound() {
+        return this.application.dispatch(this.notFoundRequest);
+    }
+
+    @Benchmark
+    public InMemoryResponse cachedResponse() {
+        return this.application.dispatch(this.cachedRequest);
+    }
+
+    @Benchmark
+    public InMemoryResponse staticResource() {
+        return this.application.dispatch(this.staticResourceRequest);
+    }
+
+    @Benchmark
+    public InMemoryResponse asyncAction() {
+        return this.application.dispatch(this.asyncRequest);
+    }
+}
@@ -0,0 +1,118 @@
+package app.summer.benchmarks;
+
+import app.broccolina.solet.HttpSoletRequest;
+import app.javache.http.HttpCookie;
+import app.javache.http.HttpSession;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Map;
+
+public class InMemoryRequest implements HttpSoletRequest {
+
+    private final Map<String, String> headers;
+
+    private final Map<String, String> queryParameters;
+
+    private final Map<String, String> bodyParameters;
+
+    private final Map<String, HttpCookie> cookies;
+
+    private String method;
+
+    private String requestUrl;
+
+    private HttpSession session;
+
+    public InMemoryRequest(String method, String requestUrl) {
+        this.method = method;
+        this.requestUrl = requestUrl;
+        this.headers = new HashMap<>();
+        this.queryParameters = new HashMap<>();
+        this.bodyParameters = new HashMap<>();
+        this.cookies = new HashMap<>();
+    }
+
+    public InMemoryRequest withHeader(String name, String value) {
+        this.addHeader(name, value);
+
+        return this;
+    }
+
+    public InMemoryRequest withBodyParameter(String name, String value) {
+        this.addBodyParameter(name, value);
+
+        return this;
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        return this.headers;
+    }
+
+    @Override
+    public Map<String, String> getQueryParameters() {
+        return this.queryParameters;
+    }
+
+    @Override
+    public Map<String, String> getBodyParameters() {
+        return this.bodyParameters;
+    }
+
+    @Override
+    public Map<String, HttpCookie> getCookies() {
+        return this.cookies;
+    }
+
+    @Override
+    public String getMethod() {
+        return this.method;
+    }
+
+    @Override
+    public String getRequestUrl() {
+        return this.requestUrl;
+    }
+
+    @Override
+    public HttpSession getSession() {
+        return this.session;
+    }
+
+    @Override
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    @Override
+    public void setRequestUrl(String requestUrl) {
+        this.requestUrl = requestUrl;
+    }
+
+    @Override
+    public void setSession(HttpSession session) {
+        this.session = session;
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        this.headers.put(name, value);
+    }
+
+    @Override
+    public void addBodyParameter(String name, String value) {
+        this.bodyParameters.put(name, value);
+    }
+
+    @Override
+    public boolean isResource() {
+        return false;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return new ByteArrayInputStream(new byte[0]);
+    }
+}
@@ -0,0 +1,88 @@
+package app.summer.benchmarks;
+
+import app.broccolina.solet.HttpSoletResponse;
+import app.javache.http.HttpStatus;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class InMemoryResponse implements HttpSoletResponse {
+
+    private final Map<String, String> headers;
+
+    private final Map<String, String> cookies;
+
+    private final ByteArrayOutputStream outputStream;
+
+    private HttpStatus statusCode;
+
+    private byte[] content;
+
+    public InMemoryResponse() {
+        this.headers = new HashMap<>();
+        this.cookies = new LinkedHashMap<>();
+        this.outputStream = new ByteArrayOutputStream();
+        this.content = new byte[0];
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        return this.headers;
+    }
+
+    @Override
+    public HttpStatus getStatusCode() {
+        return this.statusCode;
+    }
+
+    @Override
+    public byte[] getContent() {
+        return this.content;
+    }
+
+    @Override
+    public byte[] getBytes() {
+        StringBuilder head = new StringBuilder();
+
+        for (Map.Entry<String, String> header : this.headers.entrySet()) {
+            head.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+        }
+
+        byte[] headBytes = head.append("\r\n").toString().getBytes(StandardCharsets.UTF_8);
+        byte[] bytes = new byte[headBytes.length + this.content.length];
+
+        System.arraycopy(headBytes, 0, bytes, 0, headBytes.length);
+        System.arraycopy(this.content, 0, bytes, headBytes.length, this.content.length);
+
+        return bytes;
+    }
+
+    @Override
+    public void setStatusCode(HttpStatus statusCode) {
+        this.statusCode = statusCode;
+    }
+
+    @Override
+    public void setContent(byte[] content) {
+        this.content = content;
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        this.headers.putIfAbsent(name, value);
+    }
+
+    @Override
+    public void addCookie(String name, String value) {
+        this.cookies.putIfAbsent(name, value);
+    }
+
+    @Override
+    public OutputStream getOutputStream() {
+        return this.outputStream;
+    }
+}
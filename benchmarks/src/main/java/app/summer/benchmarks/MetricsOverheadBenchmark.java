@@ -0,0 +1,62 @@
+package app.summer.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+
+    @Param({"false", "true"})
+    public String metricsEnabled;
+
+    private BenchmarkApplication application;
+
+    private InMemoryRequest plainTextRequest;
+
+    private InMemoryRequest pathVariableRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.application = BenchmarkApplication.start(0, Collections.singletonMap("metrics-enabled", this.metricsEnabled));
+
+        this.plainTextRequest = new InMemoryRequest("GET", "/");
+        this.pathVariableRequest = new InMemoryRequest("GET", "/users/42");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.application.close();
+    }
+
+    @Benchmark
+    public InMemoryResponse plainText() {
+        return this.application.dispatch(this.plainTextRequest);
+    }
+
+    @Benchmark
+    public InMemoryResponse pathVariable() {
+        return this.application.dispatch(this.pathVariableRequest);
+    }
+}
@@ -0,0 +1,87 @@
+package app.summer.benchmarks;
+
+import app.javache.http.HttpStatus;
+import app.summer.core.ResponseCompressor;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class ResponseCompressionBenchmark {
+
+    private static final int MINIMUM_SIZE = 1024;
+
+    @Param({"1024", "16384", "262144"})
+    public int payloadSize;
+
+    private ResponseCompressor responseCompressor;
+
+    private InMemoryRequest request;
+
+    private byte[] payload;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.responseCompressor = new ResponseCompressor(MINIMUM_SIZE, Deflater.DEFAULT_COMPRESSION, Runtime.getRuntime().availableProcessors() * 2);
+        this.request = new InMemoryRequest("GET", "/").withHeader("Accept-Encoding", "gzip, deflate");
+
+        StringBuilder content = new StringBuilder(this.payloadSize);
+
+        for (int i = 0; content.length() < this.payloadSize; i++) {
+            content.append("<tr><td>").append(i).append("</td><td>User ").append(i).append("</td><td>City ").append(i % 50).append("</td></tr>\n");
+        }
+
+        this.payload = content.substring(0, this.payloadSize).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public InMemoryResponse compress(CompressedSize compressedSize) {
+        InMemoryResponse response = new InMemoryResponse();
+        response.setStatusCode(HttpStatus.OK);
+        response.addHeader("Content-Type", "text/html");
+        response.setContent(this.payload);
+
+        this.responseCompressor.apply(this.request, response);
+
+        compressedSize.originalBytes += this.payload.length;
+        compressedSize.compressedBytes += response.getContent().length;
+
+        return response;
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class CompressedSize {
+
+        public long originalBytes;
+
+        public long compressedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.originalBytes = 0;
+            this.compressedBytes = 0;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package app.summer.benchmarks;
+
+import app.summer.util.ControllerActionPair;
+import app.summer.util.RouteMatch;
+import app.summer.util.RouteTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RouteMatchingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int routeCount;
+
+    private RouteTrie routeTrie;
+
+    private String literalUrl;
+
+    private String variableUrl;
+
+    private String missingUrl;
+
+    public String action() {
+        return "action";
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        ControllerActionPair controllerActionPair = new ControllerActionPair(this, RouteMatchingBenchmark.class.getMethod("action"));
+
+        this.routeTrie = new RouteTrie("GET");
+
+        for (int i = 0; i < this.routeCount; i++) {
+            if (i % 3 == 0) {
+                this.routeTrie.addRoute("/pages/page" + i, controllerActionPair);
+            } else if (i % 3 == 1) {
+                this.routeTrie.addRoute("/api/resource" + i + "/{id}", controllerActionPair);
+            } else {
+                this.routeTrie.addRoute("/api/resource" + i + "/{id}/items/{itemId}", controllerActionPair);
+            }
+        }
+
+        int middleRoute = this.routeCount / 2 - this.routeCount / 2 % 3;
+
+        this.literalUrl = "/pages/page" + middleRoute;
+        this.variableUrl = "/api/resource" + (middleRoute + 2) + "/42/items/7";
+        this.missingUrl = "/api/unknown/42";
+    }
+
+    @Benchmark
+    public RouteMatch literalRoute() {
+        return this.routeTrie.findRouteMatch(this.literalUrl);
+    }
+
+    @Benchmark
+    public RouteMatch variableRoute() {
+        return this.routeTrie.findRouteMatch(this.variableUrl);
+    }
+
+    @Benchmark
+    public RouteMatch missingRoute() {
+        return this.routeTrie.findRouteMatch(this.missingUrl);
+    }
+}
@@ -0,0 +1,129 @@
+package app.summer.benchmarks;
+
+import app.summer.util.ControllerActionPair;
+import app.summer.util.PathFormatter;
+import app.summer.util.RouteTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RoutingComparisonBenchmark {
+
+    private static final Pattern PATH_PARAMETER_PATTERN = Pattern.compile("\\{([a-zA-Z]+)\\}");
+
+    @Param({"10", "100", "1000"})
+    public int routeCount;
+
+    @Param({"regex", "trie"})
+    public String routeMatcher;
+
+    private Function<String, Object> routeLookup;
+
+    private String literalUrl;
+
+    private String variableUrl;
+
+    private String missingUrl;
+
+    public String action() {
+        return "action";
+    }
+
+    private static Object findRegexMatch(Map<String, ControllerActionPair> controllerActions, String url) {
+        for (Map.Entry<String, ControllerActionPair> controllerAction : controllerActions.entrySet()) {
+            Matcher routeMatcher = Pattern.compile("^" + controllerAction.getKey() + "$").matcher(url);
+
+            if (routeMatcher.find()) {
+                List<String> pathVariables = new ArrayList<>();
+                Matcher parameterMatcher = PATH_PARAMETER_PATTERN.matcher(controllerAction.getKey());
+
+                while (parameterMatcher.find()) {
+                    pathVariables.add(routeMatcher.group(parameterMatcher.group(1)));
+                }
+
+                return pathVariables;
+            }
+        }
+
+        return null;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        ControllerActionPair controllerActionPair = new ControllerActionPair(this, RoutingComparisonBenchmark.class.getMethod("action"));
+        List<String> routes = new ArrayList<>();
+
+        for (int i = 0; i < this.routeCount; i++) {
+            if (i % 3 == 0) {
+                routes.add("/pages/page" + i);
+            } else if (i % 3 == 1) {
+                routes.add("/api/resource" + i + "/{id}");
+            } else {
+                routes.add("/api/resource" + i + "/{id}/items/{itemId}");
+            }
+        }
+
+        if ("regex".equals(this.routeMatcher)) {
+            Map<String, ControllerActionPair> controllerActions = new HashMap<>();
+
+            for (String route : routes) {
+                controllerActions.put(PathFormatter.formatPath(route), controllerActionPair);
+            }
+
+            this.routeLookup = url -> findRegexMatch(controllerActions, url);
+        } else {
+            RouteTrie routeTrie = new RouteTrie("GET");
+
+            for (String route : routes) {
+                routeTrie.addRoute(route, controllerActionPair);
+            }
+
+            this.routeLookup = routeTrie::findRouteMatch;
+        }
+
+        int middleRoute = this.routeCount / 2 - this.routeCount / 2 % 3;
+
+        this.literalUrl = "/pages/page" + middleRoute;
+        this.variableUrl = "/api/resource" + (middleRoute + 2) + "/42/items/7";
+        this.missingUrl = "/api/unknown/42";
+    }
+
+    @Benchmark
+    public Object literalRoute() {
+        return this.routeLookup.apply(this.literalUrl);
+    }
+
+    @Benchmark
+    public Object variableRoute() {
+        return this.routeLookup.apply(this.variableUrl);
+    }
+
+    @Benchmark
+    public Object missingRoute() {
+        return this.routeLookup.apply(this.missingUrl);
+    }
+}
@@ -0,0 +1,80 @@
+package app.summer.benchmarks;
+
+import app.summer.api.Model;
+import app.summer.util.TemplateEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateAllocationBenchmark {
+
+    private static final String SMALL_TEMPLATE = "<html><head><title>${title}</title></head><body><h1>${title}</h1><p>${message}</p></body></html>";
+
+    private static final String LARGE_TEMPLATE_ROW = "<tr><td>${title}</td><td>Lorem ipsum dolor sit amet, consectetur adipiscing elit</td><td>${message}</td></tr>\n";
+
+    private static final int LARGE_TEMPLATE_SIZE = 500 * 1024;
+
+    @Param({"small", "large"})
+    public String templateName;
+
+    private Path templatesFolder;
+
+    private TemplateEngine templateEngine;
+
+    private Model model;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.templatesFolder = Files.createTempDirectory("summer-templates");
+
+        StringBuilder largeTemplate = new StringBuilder(LARGE_TEMPLATE_SIZE + LARGE_TEMPLATE_ROW.length());
+
+        while (largeTemplate.length() < LARGE_TEMPLATE_SIZE) {
+            largeTemplate.append(LARGE_TEMPLATE_ROW);
+        }
+
+        Files.write(this.templatesFolder.resolve("small.html"), SMALL_TEMPLATE.getBytes(StandardCharsets.UTF_8));
+        Files.write(this.templatesFolder.resolve("large.html"), largeTemplate.toString().getBytes(StandardCharsets.UTF_8));
+
+        this.templateEngine = new TemplateEngine(this.templatesFolder.toString() + File.separator);
+
+        this.model = new Model();
+        this.model.addAttributes("title", "Summer");
+        this.model.addAttributes("message", "Rendered into a reusable buffer");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.templatesFolder.resolve("small.html"));
+        Files.deleteIfExists(this.templatesFolder.resolve("large.html"));
+        Files.deleteIfExists(this.templatesFolder);
+    }
+
+    @Benchmark
+    public byte[] renderTemplate() throws IOException {
+        return this.templateEngine.renderTemplate(this.templateName, this.model);
+    }
+}
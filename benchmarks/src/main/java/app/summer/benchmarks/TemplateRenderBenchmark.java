@@ -0,0 +1,69 @@
+package app.summer.benchmarks;
+
+import app.summer.api.Model;
+import app.summer.benchmarks.app.RowRepository;
+import app.summer.util.TemplateEngine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemplateRenderBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int rowCount;
+
+    private BenchmarkApplication application;
+
+    private TemplateEngine templateEngine;
+
+    private Model model;
+
+    private InMemoryRequest pageRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        this.application = BenchmarkApplication.start(0, Collections.emptyMap());
+        this.templateEngine = new TemplateEngine(this.application.getTemplatesFolder());
+
+        this.model = new Model();
+        this.model.addAttributes("title", this.rowCount + " rows");
+        this.model.addAttributes("rows", new RowRepository().findRows(this.rowCount));
+
+        this.pageRequest = new InMemoryRequest("GET", "/rows/" + this.rowCount);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        this.application.close();
+    }
+
+    @Benchmark
+    public byte[] renderTemplate() throws IOException {
+        return this.templateEngine.renderTemplate("rows", this.model);
+    }
+
+    @Benchmark
+    public InMemoryResponse renderPage() {
+        return this.application.dispatch(this.pageRequest);
+    }
+}
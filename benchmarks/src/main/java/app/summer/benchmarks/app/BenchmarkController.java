@@ -0,0 +1,62 @@
+package app.summer.benchmarks.app;
+
+import app.summer.api.Cached;
+import app.summer.api.Controller;
+import app.summer.api.GetMapping;
+import app.summer.api.Model;
+import app.summer.api.PathVariable;
+import app.summer.api.PostMapping;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+@Controller
+public class BenchmarkController {
+
+    private final RowRepository rowRepository;
+
+    public BenchmarkController(RowRepository rowRepository) {
+        this.rowRepository = rowRepository;
+    }
+
+    @GetMapping(route = "/")
+    public String index() {
+        return "hello";
+    }
+
+    @GetMapping(route = "/users/{id}")
+    public String user(@PathVariable(name = "id") int id) {
+        return "user " + id;
+    }
+
+    @PostMapping(route = "/users")
+    public String createUser(UserForm userForm) {
+        return "created " + userForm.name + " " + userForm.age;
+    }
+
+    @GetMapping(route = "/rows/{count}")
+    public String rows(@PathVariable(name = "count") int count, Model model) {
+        model.addAttributes("title", count + " rows");
+        model.addAttributes("rows", this.rowRepository.findRows(count));
+
+        return "template:rows";
+    }
+
+    @Cached(pathVariables = "id")
+    @GetMapping(route = "/cached/{id}")
+    public String cached(@PathVariable(name = "id") int id) {
+        return "cached " + id;
+    }
+
+    @GetMapping(route = "/slow/{millis}")
+    public String slow(@PathVariable(name = "millis") int millis) throws InterruptedException {
+        Thread.sleep(millis);
+
+        return "slept " + millis;
+    }
+
+    @GetMapping(route = "/async")
+    public CompletionStage<String> async() {
+        return CompletableFuture.completedFuture("async");
+    }
+}
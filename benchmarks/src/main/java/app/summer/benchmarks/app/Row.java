@@ -0,0 +1,48 @@
+package app.summer.benchmarks.app;
+
+public class Row {
+
+    private final int id;
+
+    private final String name;
+
+    private final Address address;
+
+    private final boolean active;
+
+    public Row(int id, String name, Address address, boolean active) {
+        this.id = id;
+        this.name = name;
+        this.address = address;
+        this.active = active;
+    }
+
+    public int getId() {
+        return this.id;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public Address getAddress() {
+        return this.address;
+    }
+
+    public boolean isActive() {
+        return this.active;
+    }
+
+    public static class Address {
+
+        private final String city;
+
+        public Address(String city) {
+            this.city = city;
+        }
+
+        public String getCity() {
+            return this.city;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package app.summer.benchmarks.app;
+
+import app.summer.api.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class RowRepository {
+
+    private final Map<Integer, List<Row>> rowsByCount;
+
+    public RowRepository() {
+        this.rowsByCount = new ConcurrentHashMap<>();
+    }
+
+    private static List<Row> createRows(int count) {
+        List<Row> rows = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            rows.add(new Row(i, "User " + i, new Row.Address("City " + (i % 50)), i % 3 != 0));
+        }
+
+        return Collections.unmodifiableList(rows);
+    }
+
+    public List<Row> findRows(int count) {
+        return this.rowsByCount.computeIfAbsent(count, RowRepository::createRows);
+    }
+}
@@ -0,0 +1,10 @@
+package app.summer.benchmarks.app;
+
+public class UserForm {
+
+    public String name;
+
+    public Integer age;
+
+    public String email;
+}
@@ -0,0 +1,17 @@
+package app.summer.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Cached {
+
+    long ttlSeconds() default 60;
+
+    String[] pathVariables() default {};
+
+    boolean perSession() default false;
+}
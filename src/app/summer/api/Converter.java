@@ -0,0 +1,6 @@
+package app.summer.api;
+
+public interface Converter<T> {
+
+    T convert(CharSequence value);
+}
@@ -0,0 +1,5 @@
+package app.summer.api;
+
+public enum Scope {
+    SINGLETON, PROTOTYPE, REQUEST
+}
@@ -0,0 +1,113 @@
+package app.summer.core;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ActionExecutors {
+
+    public static final String COMMON_EXECUTOR = "common";
+
+    public static final String FIXED_EXECUTOR = "fixed";
+
+    public static final String VIRTUAL_EXECUTOR = "virtual";
+
+    public static final String POOL_EXECUTOR = "pool";
+
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadPerTaskExecutorFactory();
+
+    private ActionExecutors() {
+    }
+
+    private static Method findVirtualThreadPerTaskExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    public static boolean isVirtualThreadSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    private static ThreadFactory createThreadFactory(String threadNamePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+
+        return runnable -> {
+            Thread thread = new Thread(runnable, threadNamePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        };
+    }
+
+    public static ExecutorService createFixedExecutor(int threadCount) {
+        return Executors.newFixedThreadPool(Math.max(threadCount, 1), createThreadFactory("summer-action-"));
+    }
+
+    public static ExecutorService createBoundedExecutor(int threadCount, int queueCapacity) {
+        int poolSize = Math.max(threadCount, 1);
+
+        return new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                createThreadFactory("summer-worker-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public static ExecutorService createVirtualThreadExecutor() {
+        if (!isVirtualThreadSupported()) {
+            return null;
+        }
+
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            return null;
+        }
+    }
+
+    public static Executor createExecutor(String executorType, int threadCount) {
+        if (VIRTUAL_EXECUTOR.equals(executorType)) {
+            ExecutorService virtualThreadExecutor = createVirtualThreadExecutor();
+
+            if (virtualThreadExecutor != null) {
+                return virtualThreadExecutor;
+            }
+
+            return createFixedExecutor(threadCount);
+        } else if (FIXED_EXECUTOR.equals(executorType)) {
+            return createFixedExecutor(threadCount);
+        }
+
+        return ForkJoinPool.commonPool();
+    }
+
+    public static ExecutorService createActionExecutor(String executorType, int threadCount, int queueCapacity) {
+        if (VIRTUAL_EXECUTOR.equals(executorType)) {
+            ExecutorService virtualThreadExecutor = createVirtualThreadExecutor();
+
+            if (virtualThreadExecutor != null) {
+                return virtualThreadExecutor;
+            }
+
+            return createBoundedExecutor(threadCount, queueCapacity);
+        } else if (POOL_EXECUTOR.equals(executorType)) {
+            return createBoundedExecutor(threadCount, queueCapacity);
+        }
+
+        return null;
+    }
+}
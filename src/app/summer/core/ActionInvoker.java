@@ -0,0 +1,8 @@
+package app.summer.core;
+
+import java.lang.reflect.InvocationTargetException;
+
+public interface ActionInvoker {
+
+    Object invoke(Object[] actionArguments) throws IllegalAccessException, InvocationTargetException;
+}
@@ -0,0 +1,140 @@
+package app.summer.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+public final class ActionInvokers {
+
+    private static final MethodType SPREAD_INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private static final MethodHandle WRAP_TARGET_EXCEPTION;
+
+    static {
+        try {
+            WRAP_TARGET_EXCEPTION = MethodHandles.lookup().findStatic(ActionInvokers.class, "wrapTargetException", MethodType.methodType(Object.class, Throwable.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private ActionInvokers() {
+    }
+
+    private static Object wrapTargetException(Throwable throwable) throws InvocationTargetException {
+        throw new InvocationTargetException(throwable);
+    }
+
+    private static MethodHandle catchTargetExceptions(MethodHandle targetHandle) {
+        MethodType targetType = targetHandle.type();
+        MethodHandle exceptionHandler = MethodHandles.dropArguments(
+                WRAP_TARGET_EXCEPTION.asType(MethodType.methodType(targetType.returnType(), Throwable.class)),
+                1,
+                targetType.parameterList());
+
+        return MethodHandles.catchException(targetHandle, Throwable.class, exceptionHandler);
+    }
+
+    public static ActionInvoker createActionInvoker(Object controller, Method action) {
+        try {
+            action.setAccessible(true);
+
+            MethodHandle actionHandle = catchTargetExceptions(MethodHandles.lookup().unreflect(action).bindTo(controller))
+                    .asSpreader(Object[].class, action.getParameterCount())
+                    .asType(SPREAD_INVOKER_TYPE);
+
+            return new MethodHandleActionInvoker(actionHandle, action);
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new ReflectiveActionInvoker(controller, action);
+        }
+    }
+
+    public static ActionInvoker createLazyActionInvoker(ControllerProvider controllerProvider, Method action) {
+        return new LazyActionInvoker(controllerProvider, action);
+    }
+
+    private static class LazyActionInvoker implements ActionInvoker {
+
+        private final ControllerProvider controllerProvider;
+
+        private final Method action;
+
+        private volatile ActionInvoker actionInvoker;
+
+        private LazyActionInvoker(ControllerProvider controllerProvider, Method action) {
+            this.controllerProvider = controllerProvider;
+            this.action = action;
+        }
+
+        private ActionInvoker getActionInvoker() throws InvocationTargetException {
+            ActionInvoker actionInvoker = this.actionInvoker;
+
+            if (actionInvoker != null) {
+                return actionInvoker;
+            }
+
+            synchronized (this) {
+                if (this.actionInvoker == null) {
+                    Object controller = this.controllerProvider.getController();
+
+                    if (controller == null) {
+                        throw new InvocationTargetException(new IllegalStateException("No controller instance is available for " + this.action));
+                    }
+
+                    this.actionInvoker = createActionInvoker(controller, this.action);
+                }
+
+                return this.actionInvoker;
+            }
+        }
+
+        @Override
+        public Object invoke(Object[] actionArguments) throws IllegalAccessException, InvocationTargetException {
+            return this.getActionInvoker().invoke(actionArguments);
+        }
+    }
+
+    private static class MethodHandleActionInvoker implements ActionInvoker {
+
+        private final MethodHandle actionHandle;
+
+        private final Method action;
+
+        private MethodHandleActionInvoker(MethodHandle actionHandle, Method action) {
+            this.actionHandle = actionHandle;
+            this.action = action;
+        }
+
+        @Override
+        public Object invoke(Object[] actionArguments) throws InvocationTargetException {
+            try {
+                return (Object) this.actionHandle.invokeExact(actionArguments);
+            } catch (InvocationTargetException | Error e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Arguments do not match " + this.action, e);
+            } catch (Throwable throwable) {
+                throw new IllegalStateException(throwable);
+            }
+        }
+    }
+
+    private static class ReflectiveActionInvoker implements ActionInvoker {
+
+        private final Object controller;
+
+        private final Method action;
+
+        private ReflectiveActionInvoker(Object controller, Method action) {
+            this.controller = controller;
+            this.action = action;
+        }
+
+        @Override
+        public Object invoke(Object[] actionArguments) throws IllegalAccessException, InvocationTargetException {
+            return this.action.invoke(this.controller, actionArguments);
+        }
+    }
+}
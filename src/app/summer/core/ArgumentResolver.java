@@ -0,0 +1,10 @@
+package app.summer.core;
+
+import app.summer.util.RouteMatch;
+
+import java.lang.reflect.InvocationTargetException;
+
+public interface ArgumentResolver {
+
+    Object resolveArgument(RequestContext requestContext, RouteMatch routeMatch) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException;
+}
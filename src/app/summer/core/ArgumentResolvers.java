@@ -0,0 +1,124 @@
+package app.summer.core;
+
+import app.summer.api.BindingResult;
+import app.summer.api.Converter;
+import app.summer.api.PathVariable;
+import app.summer.util.RouteMatch;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class ArgumentResolvers {
+
+    private final ConversionService conversionService;
+
+    private final DependencyContainer dependencyContainer;
+
+    private final Map<Class<?>, BindingModelPlan> bindingModelPlans;
+
+    public ArgumentResolvers(ConversionService conversionService) {
+        this(conversionService, new DependencyContainer());
+    }
+
+    public ArgumentResolvers(ConversionService conversionService, DependencyContainer dependencyContainer) {
+        this.conversionService = conversionService;
+        this.dependencyContainer = dependencyContainer;
+        this.bindingModelPlans = new ConcurrentHashMap<>();
+    }
+
+    public ArgumentResolver[] createArgumentResolvers(Method action) {
+        Parameter[] actionParameters = action.getParameters();
+        ArgumentResolver[] argumentResolvers = new ArgumentResolver[actionParameters.length];
+
+        int pathVariablePosition = 0;
+
+        for (int i = 0; i < actionParameters.length; i++) {
+            Parameter actionParameter = actionParameters[i];
+
+            if (this.dependencyContainer.isInjectable(actionParameter.getType())) {
+                argumentResolvers[i] = new DependencyArgumentResolver(this.dependencyContainer.resolveType(actionParameter.getType()));
+            } else if (actionParameter.isAnnotationPresent(PathVariable.class) || this.conversionService.canConvert(actionParameter.getType())) {
+                argumentResolvers[i] = new PathVariableArgumentResolver(this.conversionService.getConverter(actionParameter.getType()), getPathVariableName(actionParameter), pathVariablePosition++);
+            } else {
+                argumentResolvers[i] = new BindingModelArgumentResolver(this.getBindingModelPlan(actionParameter.getType()));
+            }
+        }
+
+        return argumentResolvers;
+    }
+
+    private static String getPathVariableName(Parameter parameter) {
+        PathVariable pathVariable = parameter.getAnnotation(PathVariable.class);
+
+        if (pathVariable == null || pathVariable.name().isEmpty()) {
+            return null;
+        }
+
+        return pathVariable.name();
+    }
+
+    private BindingModelPlan getBindingModelPlan(Class<?> bindingModelType) {
+        return this.bindingModelPlans.computeIfAbsent(bindingModelType, type -> new BindingModelPlan(type, this.conversionService));
+    }
+
+    private static class PathVariableArgumentResolver implements ArgumentResolver {
+
+        private final Converter<?> converter;
+
+        private final String pathVariableName;
+
+        private final int pathVariablePosition;
+
+        private PathVariableArgumentResolver(Converter<?> converter, String pathVariableName, int pathVariablePosition) {
+            this.converter = converter;
+            this.pathVariableName = pathVariableName;
+            this.pathVariablePosition = pathVariablePosition;
+        }
+
+        @Override
+        public Object resolveArgument(RequestContext requestContext, RouteMatch routeMatch) {
+            String pathVariableValue = this.pathVariableName != null
+                    ? routeMatch.getPathVariable(this.pathVariableName)
+                    : routeMatch.getPathVariable(this.pathVariablePosition);
+
+            if (pathVariableValue == null || this.converter == null) {
+                return pathVariableValue;
+            }
+
+            return this.converter.convert(pathVariableValue);
+        }
+    }
+
+    private static class DependencyArgumentResolver implements ArgumentResolver {
+
+        private final Class<?> dependencyType;
+
+        private DependencyArgumentResolver(Class<?> dependencyType) {
+            this.dependencyType = dependencyType;
+        }
+
+        @Override
+        public Object resolveArgument(RequestContext requestContext, RouteMatch routeMatch) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+            return requestContext.getObject(this.dependencyType);
+        }
+    }
+
+    private static class BindingModelArgumentResolver implements ArgumentResolver {
+
+        private final BindingModelPlan bindingModelPlan;
+
+        private BindingModelArgumentResolver(BindingModelPlan bindingModelPlan) {
+            this.bindingModelPlan = bindingModelPlan;
+        }
+
+        @Override
+        public Object resolveArgument(RequestContext requestContext, RouteMatch routeMatch) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+            BindingResult bindingResult = (BindingResult) requestContext.getObject(BindingResult.class);
+
+            return this.bindingModelPlan.bind(requestContext.getRequest(), bindingResult);
+        }
+    }
+}
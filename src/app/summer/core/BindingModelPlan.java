@@ -0,0 +1,127 @@
+package app.summer.core;
+
+import app.broccolina.solet.HttpSoletRequest;
+import app.summer.api.BindingResult;
+import app.summer.api.Converter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class BindingModelPlan {
+
+    private final Class<?> bindingModelType;
+
+    private final Constructor<?> bindingModelConstructor;
+
+    private final FieldBinding[] fieldBindings;
+
+    BindingModelPlan(Class<?> bindingModelType, ConversionService conversionService) {
+        this.bindingModelType = bindingModelType;
+        this.bindingModelConstructor = findNoArgsConstructor(bindingModelType);
+
+        List<FieldBinding> fieldBindings = new ArrayList<>();
+
+        for (Field field : bindingModelType.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+                continue;
+            }
+
+            try {
+                field.setAccessible(true);
+
+                fieldBindings.add(new FieldBinding(
+                        field.getName(),
+                        field.getType().isPrimitive(),
+                        MethodHandles.lookup().unreflectGetter(field),
+                        MethodHandles.lookup().unreflectSetter(field),
+                        conversionService.getConverter(field.getType())));
+            } catch (IllegalAccessException | RuntimeException e) {
+                throw new IllegalStateException("Cannot bind field " + field.getName() + " of " + bindingModelType.getName(), e);
+            }
+        }
+
+        this.fieldBindings = fieldBindings.toArray(new FieldBinding[0]);
+    }
+
+    private static Constructor<?> findNoArgsConstructor(Class<?> type) {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+
+            return constructor;
+        } catch (NoSuchMethodException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String decodeValue(String value) {
+        if (value.indexOf('%') == -1 && value.indexOf('+') == -1) {
+            return value;
+        }
+
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    public Object bind(HttpSoletRequest request, BindingResult bindingResult) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        if (this.bindingModelConstructor == null) {
+            throw new NoSuchMethodException(this.bindingModelType.getName() + ".<init>()");
+        }
+
+        Object bindingModel = this.bindingModelConstructor.newInstance();
+        Map<String, String> bodyParameters = request.getBodyParameters();
+
+        for (FieldBinding fieldBinding : this.fieldBindings) {
+            String parameterValue = bodyParameters != null ? bodyParameters.get(fieldBinding.name) : null;
+
+            try {
+                if (parameterValue != null) {
+                    if (fieldBinding.converter == null) {
+                        throw new IllegalArgumentException("No converter for field " + fieldBinding.name);
+                    }
+
+                    fieldBinding.setter.invoke(bindingModel, fieldBinding.converter.convert(decodeValue(parameterValue)));
+                } else if (!fieldBinding.isPrimitive && fieldBinding.getter.invoke(bindingModel) == null) {
+                    bindingResult.addError(String.format("Mapping of \"%s\" field failed", fieldBinding.name));
+                }
+            } catch (RuntimeException e) {
+                bindingResult.addError(String.format("Mapping of \"%s\" field failed", fieldBinding.name));
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable throwable) {
+                throw new InvocationTargetException(throwable);
+            }
+        }
+
+        return bindingModel;
+    }
+
+    private static class FieldBinding {
+
+        private final String name;
+
+        private final boolean isPrimitive;
+
+        private final MethodHandle getter;
+
+        private final MethodHandle setter;
+
+        private final Converter<?> converter;
+
+        private FieldBinding(String name, boolean isPrimitive, MethodHandle getter, MethodHandle setter, Converter<?> converter) {
+            this.name = name;
+            this.isPrimitive = isPrimitive;
+            this.getter = getter;
+            this.setter = setter;
+            this.converter = converter;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package app.summer.core;
+
+import app.broccolina.solet.HttpSoletResponse;
+import app.javache.http.HttpStatus;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class CachedResponse {
+
+    private final HttpStatus statusCode;
+
+    private final Map<String, String> headers;
+
+    private final byte[] content;
+
+    private CachedResponse(HttpStatus statusCode, Map<String, String> headers, byte[] content) {
+        this.statusCode = statusCode;
+        this.headers = Collections.unmodifiableMap(headers);
+        this.content = content;
+    }
+
+    public static CachedResponse capture(HttpSoletResponse response) {
+        return new CachedResponse(response.getStatusCode(), new LinkedHashMap<>(response.getHeaders()), response.getContent());
+    }
+
+    public HttpStatus getStatusCode() {
+        return this.statusCode;
+    }
+
+    public Map<String, String> getHeaders() {
+        return this.headers;
+    }
+
+    public byte[] getContent() {
+        return this.content;
+    }
+
+    public int getSize() {
+        return this.content != null ? this.content.length : 0;
+    }
+
+    public void writeTo(HttpSoletResponse response) {
+        response.setStatusCode(this.statusCode);
+
+        for (Map.Entry<String, String> header : this.headers.entrySet()) {
+            response.addHeader(header.getKey(), header.getValue());
+        }
+
+        if (this.content != null) {
+            response.setContent(this.content);
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package app.summer.core;
+
+import app.summer.api.Inject;
+import app.summer.api.Scope;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+final class ComponentDefinition {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> componentType;
+
+    private final Scope scope;
+
+    private final boolean isLazy;
+
+    private final MethodHandle constructorHandle;
+
+    private final Class<?>[] constructorDependencies;
+
+    private final MethodHandle[] fieldSetters;
+
+    private final Class<?>[] fieldDependencies;
+
+    ComponentDefinition(Class<?> componentType, Scope scope, boolean isLazy) throws NoSuchMethodException, IllegalAccessException {
+        this.componentType = componentType;
+        this.scope = scope;
+        this.isLazy = isLazy;
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Constructor<?> constructor = selectConstructor(componentType);
+        constructor.setAccessible(true);
+
+        this.constructorDependencies = constructor.getParameterTypes();
+        this.constructorHandle = lookup.unreflectConstructor(constructor)
+                .asSpreader(Object[].class, this.constructorDependencies.length)
+                .asType(CONSTRUCTOR_TYPE);
+
+        List<MethodHandle> fieldSetters = new ArrayList<>();
+        List<Class<?>> fieldDependencies = new ArrayList<>();
+
+        for (Class<?> type = componentType; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!field.isAnnotationPresent(Inject.class) || Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+
+                field.setAccessible(true);
+
+                fieldSetters.add(lookup.unreflectSetter(field).asType(SETTER_TYPE));
+                fieldDependencies.add(field.getType());
+            }
+        }
+
+        this.fieldSetters = fieldSetters.toArray(new MethodHandle[0]);
+        this.fieldDependencies = fieldDependencies.toArray(new Class<?>[0]);
+    }
+
+    private static Constructor<?> selectConstructor(Class<?> componentType) throws NoSuchMethodException {
+        Constructor<?>[] constructors = componentType.getDeclaredConstructors();
+        Constructor<?> injectConstructor = null;
+
+        for (Constructor<?> constructor : constructors) {
+            if (!constructor.isAnnotationPresent(Inject.class)) {
+                continue;
+            }
+
+            if (injectConstructor != null) {
+                throw new IllegalStateException("Component " + componentType.getName() + " has more than one @Inject constructor");
+            }
+
+            injectConstructor = constructor;
+        }
+
+        if (injectConstructor != null) {
+            return injectConstructor;
+        } else if (constructors.length == 1) {
+            return constructors[0];
+        }
+
+        return componentType.getDeclaredConstructor();
+    }
+
+    Class<?> getComponentType() {
+        return this.componentType;
+    }
+
+    Scope getScope() {
+        return this.scope;
+    }
+
+    boolean isLazy() {
+        return this.isLazy;
+    }
+
+    List<Class<?>> getDependencies() {
+        List<Class<?>> dependencies = new ArrayList<>();
+
+        for (Class<?> dependency : this.constructorDependencies) {
+            dependencies.add(dependency);
+        }
+
+        for (Class<?> dependency : this.fieldDependencies) {
+            dependencies.add(dependency);
+        }
+
+        return dependencies;
+    }
+
+    Object createInstance(DependencySource dependencySource) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        Object[] constructorArguments = new Object[this.constructorDependencies.length];
+
+        for (int i = 0; i < constructorArguments.length; i++) {
+            constructorArguments[i] = dependencySource.getObject(this.constructorDependencies[i]);
+        }
+
+        Object[] fieldValues = new Object[this.fieldDependencies.length];
+
+        for (int i = 0; i < fieldValues.length; i++) {
+            fieldValues[i] = dependencySource.getObject(this.fieldDependencies[i]);
+        }
+
+        try {
+            Object instance = (Object) this.constructorHandle.invokeExact(constructorArguments);
+
+            for (int i = 0; i < this.fieldSetters.length; i++) {
+                this.fieldSetters[i].invokeExact(instance, fieldValues[i]);
+            }
+
+            return instance;
+        } catch (Throwable throwable) {
+            throw new InvocationTargetException(throwable);
+        }
+    }
+
+    interface DependencySource {
+
+        Object getObject(Class<?> type) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException;
+    }
+}
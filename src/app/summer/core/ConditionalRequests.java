@@ -0,0 +1,128 @@
+package app.summer.core;
+
+import app.broccolina.solet.HttpSoletRequest;
+import app.broccolina.solet.HttpSoletResponse;
+import app.javache.http.HttpStatus;
+import app.summer.util.HttpHeaders;
+import app.summer.util.HttpMethods;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+public class ConditionalRequests {
+
+    public static final String ETAG_HEADER = "ETag";
+
+    public static final String LAST_MODIFIED_HEADER = "Last-Modified";
+
+    private static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+
+    private static final String IF_MODIFIED_SINCE_HEADER = "If-Modified-Since";
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    public static String computeETag(byte[] content) {
+        long hash = FNV_OFFSET_BASIS;
+
+        for (byte currentByte : content) {
+            hash ^= currentByte & 0xFF;
+            hash *= FNV_PRIME;
+        }
+
+        char[] eTag = new char[18];
+        eTag[0] = '"';
+        eTag[17] = '"';
+
+        for (int i = 16; i >= 1; i--) {
+            eTag[i] = HEX_DIGITS[(int) (hash & 0xF)];
+            hash >>>= 4;
+        }
+
+        return new String(eTag);
+    }
+
+    public static String formatHttpDate(long epochMillis) {
+        return DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC));
+    }
+
+    private static long parseHttpDate(String httpDate) {
+        try {
+            return ZonedDateTime.parse(httpDate.trim(), DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    private static String getOpaqueTag(String eTag) {
+        return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+    }
+
+    public static boolean matchesIfNoneMatch(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch.trim().equals("*")) {
+            return true;
+        }
+
+        String opaqueTag = getOpaqueTag(eTag);
+
+        int tokenStart = 0;
+        boolean isQuoted = false;
+
+        for (int i = 0; i <= ifNoneMatch.length(); i++) {
+            if (i < ifNoneMatch.length()) {
+                char currentChar = ifNoneMatch.charAt(i);
+
+                if (currentChar == '"') {
+                    isQuoted = !isQuoted;
+                }
+
+                if (currentChar != ',' || isQuoted) {
+                    continue;
+                }
+            }
+
+            String candidateTag = ifNoneMatch.substring(tokenStart, i).trim();
+
+            if (!candidateTag.isEmpty() && getOpaqueTag(candidateTag).equals(opaqueTag)) {
+                return true;
+            }
+
+            tokenStart = i + 1;
+        }
+
+        return false;
+    }
+
+    public boolean isNotModified(HttpSoletRequest request, HttpSoletResponse response) {
+        if (!HttpMethods.isGetOrHead(request.getMethod()) || response.getStatusCode() != HttpStatus.OK) {
+            return false;
+        }
+
+        String ifNoneMatch = HttpHeaders.getHeader(request.getHeaders(), IF_NONE_MATCH_HEADER);
+        String eTag = HttpHeaders.getHeader(response.getHeaders(), ETAG_HEADER);
+
+        if (ifNoneMatch != null) {
+            return eTag != null && matchesIfNoneMatch(ifNoneMatch, eTag);
+        }
+
+        String ifModifiedSince = HttpHeaders.getHeader(request.getHeaders(), IF_MODIFIED_SINCE_HEADER);
+        String lastModified = HttpHeaders.getHeader(response.getHeaders(), LAST_MODIFIED_HEADER);
+
+        if (ifModifiedSince == null || lastModified == null) {
+            return false;
+        }
+
+        long ifModifiedSinceMillis = parseHttpDate(ifModifiedSince);
+        long lastModifiedMillis = parseHttpDate(lastModified);
+
+        return ifModifiedSinceMillis != -1 && lastModifiedMillis != -1 && lastModifiedMillis <= ifModifiedSinceMillis;
+    }
+}
@@ -0,0 +1,8 @@
+package app.summer.core;
+
+import java.lang.reflect.InvocationTargetException;
+
+public interface ControllerProvider {
+
+    Object getController() throws InvocationTargetException;
+}
@@ -0,0 +1,113 @@
+package app.summer.core;
+
+import app.summer.api.Converter;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ConversionService {
+
+    private final Map<Class<?>, Converter<?>> converters;
+
+    public ConversionService() {
+        this.converters = new ConcurrentHashMap<>();
+        this.registerDefaultConverters();
+    }
+
+    private void registerDefaultConverters() {
+        Converter<Integer> integerConverter = value -> Integer.parseInt(value, 0, value.length(), 10);
+        Converter<Long> longConverter = value -> Long.parseLong(value, 0, value.length(), 10);
+        Converter<Double> doubleConverter = value -> Double.parseDouble(value.toString());
+        Converter<Float> floatConverter = value -> Float.parseFloat(value.toString());
+        Converter<Short> shortConverter = value -> Short.parseShort(value.toString());
+        Converter<Byte> byteConverter = value -> Byte.parseByte(value.toString());
+        Converter<Boolean> booleanConverter = value -> Boolean.parseBoolean(value.toString());
+        Converter<Character> characterConverter = value -> {
+            if (value.length() != 1) {
+                throw new IllegalArgumentException("Expected a single character but got \"" + value + "\"");
+            }
+
+            return value.charAt(0);
+        };
+
+        this.registerConverter(int.class, integerConverter);
+        this.registerConverter(Integer.class, integerConverter);
+        this.registerConverter(long.class, longConverter);
+        this.registerConverter(Long.class, longConverter);
+        this.registerConverter(double.class, doubleConverter);
+        this.registerConverter(Double.class, doubleConverter);
+        this.registerConverter(float.class, floatConverter);
+        this.registerConverter(Float.class, floatConverter);
+        this.registerConverter(short.class, shortConverter);
+        this.registerConverter(Short.class, shortConverter);
+        this.registerConverter(byte.class, byteConverter);
+        this.registerConverter(Byte.class, byteConverter);
+        this.registerConverter(boolean.class, booleanConverter);
+        this.registerConverter(Boolean.class, booleanConverter);
+        this.registerConverter(char.class, characterConverter);
+        this.registerConverter(Character.class, characterConverter);
+
+        this.registerConverter(String.class, CharSequence::toString);
+        this.registerConverter(BigDecimal.class, value -> new BigDecimal(value.toString()));
+        this.registerConverter(BigInteger.class, value -> new BigInteger(value.toString()));
+        this.registerConverter(UUID.class, value -> UUID.fromString(value.toString()));
+        this.registerConverter(LocalDate.class, LocalDate::parse);
+        this.registerConverter(LocalDateTime.class, LocalDateTime::parse);
+    }
+
+    public <T> void registerConverter(Class<T> type, Converter<? extends T> converter) {
+        this.converters.put(type, converter);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void registerConverters(ClassLoader classLoader) {
+        for (Converter<?> converter : ServiceLoader.load(Converter.class, classLoader)) {
+            Class<?> converterType = getConverterType(converter.getClass());
+
+            if (converterType == null) {
+                throw new IllegalStateException("Cannot determine the target type of converter " + converter.getClass().getName() + ", it must implement Converter with a concrete class type argument");
+            }
+
+            this.registerConverter((Class<Object>) converterType, converter);
+        }
+    }
+
+    private static Class<?> getConverterType(Class<?> converterClass) {
+        for (Class<?> currentClass = converterClass; currentClass != null; currentClass = currentClass.getSuperclass()) {
+            for (Type genericInterface : currentClass.getGenericInterfaces()) {
+                if (genericInterface instanceof ParameterizedType
+                        && ((ParameterizedType) genericInterface).getRawType() == Converter.class) {
+                    Type converterType = ((ParameterizedType) genericInterface).getActualTypeArguments()[0];
+
+                    return converterType instanceof Class ? (Class<?>) converterType : null;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    public boolean canConvert(Class<?> type) {
+        return this.converters.containsKey(type) || type.isEnum();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Converter<?> getConverter(Class<?> type) {
+        Converter<?> converter = this.converters.get(type);
+
+        if (converter == null && type.isEnum()) {
+            converter = value -> Enum.valueOf((Class) type, value.toString());
+            this.converters.put(type, converter);
+        }
+
+        return converter;
+    }
+}
@@ -1,55 +1,266 @@
 package app.summer.core;
 
+import app.broccolina.solet.HttpSoletRequest;
+import app.broccolina.solet.HttpSoletResponse;
+import app.javache.http.HttpSession;
+import app.summer.api.BindingResult;
+import app.summer.api.Component;
 import app.summer.api.Model;
+import app.summer.api.Scope;
 
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class DependencyContainer {
 
-    private Map<String, Object> instantiatedObjects;
+    private static final Class<?> UNRESOLVED_TYPE = Void.class;
 
-    private Map<String, Class<?>> staticStateClasses;
+    private Map<Class<?>, Object> instantiatedObjects;
 
-    private Map<String, Object> cachedStaticStateClasses;
+    private Set<Class<?>> staticStateClasses;
+
+    private Set<Class<?>> requestObjectClasses;
+
+    private Map<Class<?>, ComponentDefinition> componentDefinitions;
+
+    private Map<Class<?>, Class<?>> resolvedComponentTypes;
+
+    private Map<Class<?>, Long> instantiationTimings;
+
+    private Map<Class<?>, Object> externalObjects;
 
     public DependencyContainer() {
-        this.instantiatedObjects = new HashMap<>();
+        this.instantiatedObjects = new ConcurrentHashMap<>();
+        this.componentDefinitions = new LinkedHashMap<>();
+        this.resolvedComponentTypes = new ConcurrentHashMap<>();
+        this.instantiationTimings = new ConcurrentHashMap<>();
+        this.externalObjects = new LinkedHashMap<>();
         this.initStaticStateClasses();
+        this.initRequestObjectClasses();
     }
 
-    @SuppressWarnings("unchecked")
     private void initStaticStateClasses() {
-        this.cachedStaticStateClasses = new HashMap<>();
+        Set<Class<?>> staticStateClasses = new HashSet<>();
+        staticStateClasses.add(Model.class);
+        staticStateClasses.add(BindingResult.class);
 
-        this.staticStateClasses = new HashMap<>();
-        this.staticStateClasses.put(Model.class.getSimpleName(), Model.class);
+        this.staticStateClasses = Collections.unmodifiableSet(staticStateClasses);
     }
 
-    public void addInstantiatedObject(String name, Object object) {
+    private void initRequestObjectClasses() {
+        Set<Class<?>> requestObjectClasses = new HashSet<>();
+        requestObjectClasses.add(HttpSoletRequest.class);
+        requestObjectClasses.add(HttpSoletResponse.class);
+        requestObjectClasses.add(HttpSession.class);
+
+        this.requestObjectClasses = Collections.unmodifiableSet(requestObjectClasses);
+    }
+
+    public void addInstantiatedObject(Class<?> type, Object object) {
         if (object != null) {
-            this.instantiatedObjects.put(name, object);
+            this.instantiatedObjects.put(type, object);
+            this.externalObjects.put(type, object);
+        }
+    }
+
+    public DependencyContainer copyExternalObjects() {
+        DependencyContainer dependencyContainer = new DependencyContainer();
+
+        for (Map.Entry<Class<?>, Object> externalObject : this.externalObjects.entrySet()) {
+            dependencyContainer.addInstantiatedObject(externalObject.getKey(), externalObject.getValue());
+        }
+
+        return dependencyContainer;
+    }
+
+    public void registerComponent(Class<?> componentType) throws NoSuchMethodException, IllegalAccessException {
+        Component component = componentType.getAnnotation(Component.class);
+
+        this.registerComponent(componentType, component != null ? component.scope() : Scope.SINGLETON, false);
+    }
+
+    public void registerComponent(Class<?> componentType, Scope scope, boolean isLazy) throws NoSuchMethodException, IllegalAccessException {
+        if (!this.componentDefinitions.containsKey(componentType)) {
+            this.componentDefinitions.put(componentType, new ComponentDefinition(componentType, scope, isLazy));
+            this.resolvedComponentTypes.clear();
+        }
+    }
+
+    private Class<?> resolveComponentType(Class<?> type) {
+        Class<?> resolvedType = this.resolvedComponentTypes.computeIfAbsent(type, requestedType -> {
+            if (this.componentDefinitions.containsKey(requestedType)) {
+                return requestedType;
+            }
+
+            Class<?> candidateType = UNRESOLVED_TYPE;
+
+            for (Class<?> componentType : this.componentDefinitions.keySet()) {
+                if (!requestedType.isAssignableFrom(componentType)) {
+                    continue;
+                }
+
+                if (candidateType != UNRESOLVED_TYPE) {
+                    throw new IllegalStateException("More than one component is assignable to " + requestedType.getName() + ": " + candidateType.getName() + ", " + componentType.getName());
+                }
+
+                candidateType = componentType;
+            }
+
+            return candidateType;
+        });
+
+        return resolvedType != UNRESOLVED_TYPE ? resolvedType : null;
+    }
+
+    ComponentDefinition getComponentDefinition(Class<?> type) {
+        Class<?> componentType = this.resolveComponentType(type);
+
+        return componentType != null ? this.componentDefinitions.get(componentType) : null;
+    }
+
+    private boolean isRequestScoped(Class<?> type) {
+        if (this.isStaticStateClass(type) || this.requestObjectClasses.contains(type)) {
+            return true;
+        }
+
+        ComponentDefinition componentDefinition = this.getComponentDefinition(type);
+
+        return componentDefinition != null && componentDefinition.getScope() == Scope.REQUEST;
+    }
+
+    private void validateDependencies(ComponentDefinition componentDefinition, List<Class<?>> dependencyPath, Set<Class<?>> visitedTypes, List<ComponentDefinition> singletonDefinitions) {
+        Class<?> componentType = componentDefinition.getComponentType();
+
+        if (dependencyPath.contains(componentType)) {
+            StringBuilder cycle = new StringBuilder();
+
+            for (Class<?> type : dependencyPath.subList(dependencyPath.indexOf(componentType), dependencyPath.size())) {
+                cycle.append(type.getName()).append(" -> ");
+            }
+
+            throw new IllegalStateException("Circular dependency: " + cycle.append(componentType.getName()));
+        }
+
+        if (!visitedTypes.add(componentType)) {
+            return;
+        }
+
+        dependencyPath.add(componentType);
+
+        for (Class<?> dependency : componentDefinition.getDependencies()) {
+            if (componentDefinition.getScope() != Scope.REQUEST && this.isRequestScoped(dependency)) {
+                throw new IllegalStateException("Component " + componentType.getName() + " cannot depend on request scoped " + dependency.getName());
+            }
+
+            ComponentDefinition dependencyDefinition = this.getComponentDefinition(dependency);
+
+            if (dependencyDefinition != null) {
+                this.validateDependencies(dependencyDefinition, dependencyPath, visitedTypes, singletonDefinitions);
+            } else if (!this.isInjectable(dependency)) {
+                throw new IllegalStateException("No component of type " + dependency.getName() + " found for " + componentType.getName());
+            }
+        }
+
+        dependencyPath.remove(dependencyPath.size() - 1);
+
+        if (componentDefinition.getScope() == Scope.SINGLETON) {
+            singletonDefinitions.add(componentDefinition);
         }
     }
 
-    public Object getObject(String className) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
-        if (this.cachedStaticStateClasses.containsKey(className)) {
-            return this.cachedStaticStateClasses.get(className);
-        } else if (this.staticStateClasses.containsKey(className)) {
-            Object result = this.staticStateClasses.get(className).getConstructor().newInstance();
+    public void initializeComponents() throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        Set<Class<?>> visitedTypes = new HashSet<>();
+        List<ComponentDefinition> singletonDefinitions = new ArrayList<>();
+
+        for (ComponentDefinition componentDefinition : this.componentDefinitions.values()) {
+            this.validateDependencies(componentDefinition, new ArrayList<>(), visitedTypes, singletonDefinitions);
+        }
+
+        for (ComponentDefinition singletonDefinition : singletonDefinitions) {
+            if (!singletonDefinition.isLazy()) {
+                this.getSingleton(singletonDefinition);
+            }
+        }
+    }
+
+    private Object getSingleton(ComponentDefinition componentDefinition) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        Object singleton = this.instantiatedObjects.get(componentDefinition.getComponentType());
+
+        if (singleton != null) {
+            return singleton;
+        }
+
+        synchronized (componentDefinition) {
+            singleton = this.instantiatedObjects.get(componentDefinition.getComponentType());
+
+            if (singleton == null) {
+                long instantiationStart = System.nanoTime();
+
+                singleton = componentDefinition.createInstance(this::getObject);
 
-            this.cachedStaticStateClasses.put(className, result);
+                this.instantiationTimings.put(componentDefinition.getComponentType(), System.nanoTime() - instantiationStart);
+                this.instantiatedObjects.put(componentDefinition.getComponentType(), singleton);
+            }
+
+            return singleton;
+        }
+    }
+
+    public boolean isInjectable(Class<?> type) {
+        return this.instantiatedObjects.containsKey(type)
+                || this.isStaticStateClass(type)
+                || this.requestObjectClasses.contains(type)
+                || this.resolveComponentType(type) != null;
+    }
+
+    public Class<?> resolveType(Class<?> type) {
+        Class<?> componentType = this.resolveComponentType(type);
+
+        return componentType != null ? componentType : type;
+    }
+
+    public Object getObject(Class<?> type) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        Object instantiatedObject = this.instantiatedObjects.get(type);
+
+        if (instantiatedObject != null) {
+            return instantiatedObject;
+        }
+
+        ComponentDefinition componentDefinition = this.getComponentDefinition(type);
+
+        if (componentDefinition == null || componentDefinition.getScope() == Scope.REQUEST) {
+            return null;
+        } else if (componentDefinition.getScope() == Scope.PROTOTYPE) {
+            return componentDefinition.createInstance(this::getObject);
+        }
+
+        return this.getSingleton(componentDefinition);
+    }
+
+    public Long getInstantiationTiming(Class<?> componentType) {
+        return this.instantiationTimings.get(componentType);
+    }
+
+    public boolean isStaticStateClass(Class<?> type) {
+        return this.staticStateClasses.contains(type);
+    }
 
-            return result;
-        } else if (this.instantiatedObjects.containsKey(className)) {
-            return this.instantiatedObjects.get(className);
+    public Object createStaticStateObject(Class<?> type) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        if (!this.isStaticStateClass(type)) {
+            return null;
         }
 
-        return null;
+        return type.getConstructor().newInstance();
     }
 
-    public void evictCachedStaticStates() {
-        this.cachedStaticStateClasses.clear();
+    public RequestContext createRequestContext(HttpSoletRequest request, HttpSoletResponse response) {
+        return new RequestContext(this, request, response);
     }
 }
@@ -0,0 +1,107 @@
+package app.summer.core;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class DispatchMetrics {
+
+    public static final String UNMATCHED_ROUTE = "<unmatched>";
+
+    public enum Phase {
+        ROUTING, BINDING, INVOCATION, RENDER, WRITE, TOTAL
+    }
+
+    private final Map<String, RouteMetrics> routeMetrics;
+
+    public DispatchMetrics() {
+        this.routeMetrics = new ConcurrentHashMap<>();
+    }
+
+    private RouteMetrics getRouteMetrics(String route) {
+        RouteMetrics routeMetrics = this.routeMetrics.get(route);
+
+        if (routeMetrics == null) {
+            routeMetrics = this.routeMetrics.computeIfAbsent(route, r -> new RouteMetrics());
+        }
+
+        return routeMetrics;
+    }
+
+    public void recordRequest(String route, boolean isFailed) {
+        RouteMetrics routeMetrics = this.getRouteMetrics(route);
+
+        routeMetrics.requests.increment();
+
+        if (isFailed) {
+            routeMetrics.errors.increment();
+        }
+    }
+
+    public void recordPhase(String route, Phase phase, long nanos) {
+        this.getRouteMetrics(route).phases[phase.ordinal()].record(nanos);
+    }
+
+    public LatencyHistogram getHistogram(String route, Phase phase) {
+        RouteMetrics routeMetrics = this.routeMetrics.get(route);
+
+        return routeMetrics == null ? null : routeMetrics.phases[phase.ordinal()];
+    }
+
+    public String dump() {
+        StringBuilder report = new StringBuilder();
+
+        for (Map.Entry<String, RouteMetrics> routeEntry : new TreeMap<>(this.routeMetrics).entrySet()) {
+            RouteMetrics routeMetrics = routeEntry.getValue();
+
+            report.append(routeEntry.getKey())
+                    .append(" requests=").append(routeMetrics.requests.sum())
+                    .append(" errors=").append(routeMetrics.errors.sum())
+                    .append(System.lineSeparator());
+
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = routeMetrics.phases[phase.ordinal()];
+
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+
+                report.append("  ").append(phase.name().toLowerCase())
+                        .append(" count=").append(histogram.getCount())
+                        .append(" mean=").append(toMicros(histogram.getMeanNanos())).append("us")
+                        .append(" p50=").append(toMicros(histogram.getPercentileNanos(50))).append("us")
+                        .append(" p90=").append(toMicros(histogram.getPercentileNanos(90))).append("us")
+                        .append(" p99=").append(toMicros(histogram.getPercentileNanos(99))).append("us")
+                        .append(" max=").append(toMicros(histogram.getMaxNanos())).append("us")
+                        .append(System.lineSeparator());
+            }
+        }
+
+        return report.toString();
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    private static class RouteMetrics {
+
+        private final LongAdder requests;
+
+        private final LongAdder errors;
+
+        private final LatencyHistogram[] phases;
+
+        private RouteMetrics() {
+            this.requests = new LongAdder();
+            this.errors = new LongAdder();
+            this.phases = new LatencyHistogram[Phase.values().length];
+
+            for (int i = 0; i < this.phases.length; i++) {
+                this.phases[i] = new LatencyHistogram();
+            }
+        }
+    }
+}
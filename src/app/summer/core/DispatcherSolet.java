@@ -1,32 +1,65 @@
 package app.summer.core;
 
 import app.broccolina.solet.*;
-import app.javache.http.HttpSession;
 import app.javache.http.HttpStatus;
+import app.summer.api.Cached;
 import app.summer.api.Model;
-import app.summer.api.PathVariable;
-import app.summer.util.ControllerActionPair;
+import app.summer.util.ClassesFolderWatcher;
 import app.summer.util.ControllerLoadingService;
+import app.summer.util.HttpMethods;
+import app.summer.util.HttpStatuses;
+import app.summer.util.RouteMatch;
+import app.summer.util.RouteTable;
 import app.summer.util.TemplateEngine;
 
 import java.io.File;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Parameter;
-import java.util.Arrays;
-import java.util.LinkedHashSet;
-import java.util.List;
-import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.zip.Deflater;
 
 @WebSolet(route = "/*")
 public class DispatcherSolet extends BaseHttpSolet {
 
-    private String applicationClassesFolderPath;
+    private static final int DEFAULT_RESPONSE_CACHE_MAX_ENTRIES = 1024;
+
+    private static final int DEFAULT_RESPONSE_CACHE_MAX_BYTES = 64 * 1024 * 1024;
+
+    private static final int DEFAULT_ASYNC_TIMEOUT_MILLIS = 30000;
+
+    private static final int DEFAULT_ACTION_EXECUTOR_THREADS = 64;
+
+    private static final int DEFAULT_ACTION_EXECUTOR_QUEUE_CAPACITY = 1024;
+
+    private static final HttpStatus SERVICE_UNAVAILABLE = HttpStatuses.find("SERVICE_UNAVAILABLE", HttpStatus.INTERNAL_SERVER_ERROR);
+
+    private static final HttpStatus GATEWAY_TIMEOUT = HttpStatuses.find("GATEWAY_TIMEOUT", HttpStatus.INTERNAL_SERVER_ERROR);
 
-    private DependencyContainer dependencyContainer;
+    private static final HttpStatus METHOD_NOT_ALLOWED = HttpStatuses.find("METHOD_NOT_ALLOWED", HttpStatus.NOT_FOUND);
+
+    private static final String NOT_FOUND_MESSAGE = "The page or functionality you are looking for is not found. ";
+
+    private static final int DEFAULT_COMPRESSION_MIN_SIZE = 1024;
+
+    private static final int DEFAULT_STATIC_CACHE_MAX_FILE_SIZE = 64 * 1024;
+
+    private static final int DEFAULT_STATIC_CACHE_MAX_BYTES = 32 * 1024 * 1024;
+
+    private static final int DEFAULT_HOT_RELOAD_DEBOUNCE_MILLIS = 500;
+
+    private String applicationClassesFolderPath;
 
     private ControllerLoadingService controllerLoadingService;
 
@@ -34,82 +67,384 @@ public class DispatcherSolet extends BaseHttpSolet {
 
     private ControllerActionInvoker controllerActionInvoker;
 
-    private ControllerActionPair getControllerActionPairCandidate(HttpSoletRequest request) {
-        Set<Object> actionParameters = new LinkedHashSet<>();
+    private StaticResourceHandler staticResourceHandler;
+
+    private ResponseCache responseCache;
+
+    private ConditionalRequests conditionalRequests;
+
+    private ResponseCompressor responseCompressor;
+
+    private ExecutorService actionExecutor;
+
+    private Executor asyncExecutor;
 
-        ControllerActionPair candidateControllerActionPair = this.controllerLoadingService.getLoadedControllersAndActions()
-                .get(request.getMethod())
-                .entrySet()
-                .stream()
-                .filter(action -> {
-                    Pattern routePattern = Pattern.compile("^" + action.getKey() + "$");
-                    Matcher routeMatcher = routePattern.matcher(request.getRequestUrl());
+    private long asyncTimeoutMillis;
+
+    private DispatchMetrics dispatchMetrics;
+
+    private String metricsRoute;
+
+    private ClassesFolderWatcher classesFolderWatcher;
+
+    private int getIntAttribute(String attributeName, int defaultValue) {
+        Object attributeValue = super.getSoletConfig().getAttribute(attributeName);
+
+        return attributeValue != null ? Integer.parseInt(String.valueOf(attributeValue)) : defaultValue;
+    }
 
-                    if (routeMatcher.find()) {
-                        List<Parameter> pathVariables = Arrays
-                                .stream(action.getValue().getAction().getParameters())
-                                .filter(parameter -> parameter.isAnnotationPresent(PathVariable.class))
-                                .collect(Collectors.toList());
+    private String getStringAttribute(String attributeName, String defaultValue) {
+        Object attributeValue = super.getSoletConfig().getAttribute(attributeName);
 
-                        for (Parameter pathVariable : pathVariables) {
-                            String variableName = pathVariable.getAnnotation(PathVariable.class).name();
+        return attributeValue != null ? String.valueOf(attributeValue) : defaultValue;
+    }
+
+    private boolean isEnabled(String attributeName) {
+        return this.isEnabled(attributeName, false);
+    }
+
+    private boolean isEnabled(String attributeName, boolean defaultValue) {
+        Object attributeValue = super.getSoletConfig().getAttribute(attributeName);
+
+        return attributeValue != null ? Boolean.parseBoolean(String.valueOf(attributeValue)) : defaultValue;
+    }
+
+    private long startTiming() {
+        return this.dispatchMetrics != null ? System.nanoTime() : 0;
+    }
+
+    private long recordPhase(String routeName, DispatchMetrics.Phase phase, long phaseStart) {
+        if (this.dispatchMetrics == null) {
+            return 0;
+        }
+
+        long now = System.nanoTime();
+
+        this.dispatchMetrics.recordPhase(routeName, phase, now - phaseStart);
+
+        return now;
+    }
+
+    private void recordRequest(String routeName, long requestStart, boolean isFailed) {
+        if (this.dispatchMetrics == null) {
+            return;
+        }
+
+        this.dispatchMetrics.recordRequest(routeName, isFailed);
+        this.recordPhase(routeName, DispatchMetrics.Phase.TOTAL, requestStart);
+    }
+
+    private void addETag(HttpSoletResponse response, byte[] content) {
+        if (this.conditionalRequests != null) {
+            response.addHeader(ConditionalRequests.ETAG_HEADER, ConditionalRequests.computeETag(content));
+        }
+    }
+
+    private boolean isMetricsRequest(HttpSoletRequest request) {
+        return this.metricsRoute != null && HttpMethods.isGetOrHead(request.getMethod()) && this.metricsRoute.equals(request.getRequestUrl());
+    }
 
-                            String variableValue = routeMatcher.group(variableName);
+    private void handleMetricsRequest(HttpSoletResponse response) {
+        response.setStatusCode(HttpStatus.OK);
 
-                            actionParameters.add(variableValue);
-                        }
+        response.addHeader("Content-Type", "text/plain; charset=utf-8");
 
-                        return true;
-                    } else {
-                        return false;
-                    }
-                })
-                .map(x -> x.getValue())
-                .findFirst()
-                .orElse(null);
+        String metrics = this.dispatchMetrics.dump() + this.responseCache.dump()
+                + "route-table-version " + this.controllerLoadingService.getRouteTable().getVersion() + System.lineSeparator()
+                + "controller-loading " + this.controllerLoadingService.getStartupTimings() + " (ms)" + System.lineSeparator()
+                + "controller-instantiation " + this.controllerLoadingService.getControllerStartupTimings() + " (ms)" + System.lineSeparator();
 
-        for (Object actionParameter : actionParameters) {
-            candidateControllerActionPair.addParameter(actionParameter);
+        if (this.responseCompressor != null) {
+            metrics += this.responseCompressor.dump();
         }
 
-        return candidateControllerActionPair;
+        response.setContent(metrics.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ResponseCache getResponseCache() {
+        return this.responseCache;
+    }
+
+    public Executor getAsyncExecutor() {
+        return this.asyncExecutor;
+    }
+
+    public DispatchMetrics getDispatchMetrics() {
+        return this.dispatchMetrics;
+    }
+
+    public Map<String, Long> getStartupTimings() {
+        return this.controllerLoadingService.getStartupTimings();
+    }
+
+    public Map<String, Long> getControllerStartupTimings() {
+        return this.controllerLoadingService.getControllerStartupTimings();
     }
 
     private void handleRequest(HttpSoletRequest request, HttpSoletResponse response) {
-        ControllerActionPair controllerActionPair = this.getControllerActionPairCandidate(request);
+        RouteTable routeTable = this.controllerLoadingService.getRouteTable();
+        RequestContext requestContext = routeTable.getDependencyContainer().createRequestContext(request, response);
 
-        if (controllerActionPair == null) {
-            if (request.getMethod().equals("GET")) {
-                super.doGet(request, response);
-            } else if (request.getMethod().equals("POST")) {
-                super.doPost(request, response);
+        String requestMethod = request.getMethod();
+        boolean isHeadRequest = HttpMethods.HEAD.equals(requestMethod);
+
+        if (HttpMethods.OPTIONS.equals(requestMethod)) {
+            this.handleOptionsRequest(routeTable, request, response);
+
+            return;
+        } else if (this.isMetricsRequest(request)) {
+            this.handleMetricsRequest(response);
+
+            if (isHeadRequest) {
+                this.discardContent(response);
             }
 
             return;
         }
 
+        long requestStart = this.startTiming();
+
+        RouteMatch routeMatch = routeTable.findRouteMatch(isHeadRequest ? HttpMethods.GET : requestMethod, request.getRequestUrl());
+
+        String routeName = routeMatch != null ? routeMatch.getRouteName() : DispatchMetrics.UNMATCHED_ROUTE;
+        long phaseStart = this.recordPhase(routeName, DispatchMetrics.Phase.ROUTING, requestStart);
+
+        boolean isCompressionHandled = false;
+
+        if (routeMatch == null) {
+            this.handleUnmatchedRequest(routeTable, request, response);
+
+            this.recordRequest(routeName, requestStart, false);
+        } else {
+            Cached cachePolicy = routeMatch.getControllerActionPair().getCachePolicy();
+
+            if (cachePolicy != null && HttpMethods.isGetOrHead(requestMethod)) {
+                this.handleCachedRequest(routeMatch, requestContext, cachePolicy, requestStart, phaseStart);
+                isCompressionHandled = true;
+            } else {
+                boolean isSuccessful = this.executeAction(routeMatch, requestContext, phaseStart);
+
+                this.recordRequest(routeName, requestStart, !isSuccessful);
+            }
+        }
+
+        if (isHeadRequest) {
+            this.discardContent(response);
+        } else if (!isCompressionHandled) {
+            this.compressResponse(request, response);
+        }
+    }
+
+    private void compressResponse(HttpSoletRequest request, HttpSoletResponse response) {
+        if (this.responseCompressor != null) {
+            this.responseCompressor.apply(request, response);
+        }
+    }
+
+    private void discardContent(HttpSoletResponse response) {
+        byte[] content = response.getContent();
+
+        if (content != null && content.length > 0) {
+            response.addHeader("Content-Length", String.valueOf(content.length));
+            response.setContent(new byte[0]);
+        }
+    }
+
+    private void handleOptionsRequest(RouteTable routeTable, HttpSoletRequest request, HttpSoletResponse response) {
+        String allowHeader = routeTable.findAllowHeader(request.getRequestUrl());
+
+        if (allowHeader == null) {
+            this.writeErrorStatus(request, response, HttpStatus.NOT_FOUND, NOT_FOUND_MESSAGE);
+
+            return;
+        }
+
+        response.setStatusCode(HttpStatus.NO_CONTENT);
+
+        response.addHeader("Allow", allowHeader);
+
+        response.setContent(new byte[0]);
+    }
+
+    private void handleUnmatchedRequest(RouteTable routeTable, HttpSoletRequest request, HttpSoletResponse response) {
         try {
-            String result = this.controllerActionInvoker.invokeAction(controllerActionPair).toString();
+            if (this.staticResourceHandler != null && this.staticResourceHandler.handleRequest(request, response)) {
+                return;
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
 
-            response.setStatusCode(HttpStatus.OK);
+        String allowHeader = routeTable.findAllowHeader(request.getRequestUrl());
 
-            if (result.startsWith("template:")) {
-                String templateName = result.split(":")[1];
+        if (allowHeader != null) {
+            this.writeErrorStatus(request, response, METHOD_NOT_ALLOWED, "The " + request.getMethod() + " method is not supported by this resource.");
 
-                response.addHeader("Content-Type", "text/html");
+            response.addHeader("Allow", allowHeader);
 
-                response.setContent(this.templateEngine.loadTemplate(templateName, (Model)this.dependencyContainer.getObject(Model.class.getSimpleName())).getBytes());
-            } else if (result.startsWith("redirect:")) {
-                String route = result.split(":")[1];
+            return;
+        }
+
+        switch (request.getMethod()) {
+            case HttpMethods.GET:
+                super.doGet(request, response);
+                break;
+            case HttpMethods.POST:
+                super.doPost(request, response);
+                break;
+            case HttpMethods.PUT:
+                super.doPut(request, response);
+                break;
+            case HttpMethods.DELETE:
+                super.doDelete(request, response);
+                break;
+            default:
+                this.writeErrorStatus(request, response, HttpStatus.NOT_FOUND, NOT_FOUND_MESSAGE);
+        }
+    }
 
-                response.setStatusCode(HttpStatus.SEE_OTHER);
+    private void handleCachedRequest(RouteMatch routeMatch, RequestContext requestContext, Cached cachePolicy, long requestStart, long phaseStart) {
+        String routeName = routeMatch.getRouteName();
+        String cacheKey = this.responseCache.createKey(routeMatch, requestContext.getRequest(), cachePolicy,
+                this.responseCompressor != null ? this.responseCompressor.negotiateEncoding(requestContext.getRequest()) : null);
+        boolean[] executionResult = new boolean[2];
 
-                response.addHeader("Location", route);
+        CachedResponse cachedResponse = this.responseCache.getOrCompute(cacheKey, cachePolicy.ttlSeconds(), () -> {
+            executionResult[0] = true;
+            executionResult[1] = this.executeAction(routeMatch, requestContext, phaseStart);
+
+            if (!executionResult[1]) {
+                return null;
+            }
+
+            requestContext.getResponse().addHeader(ConditionalRequests.LAST_MODIFIED_HEADER, ConditionalRequests.formatHttpDate(System.currentTimeMillis()));
+            this.compressResponse(requestContext.getRequest(), requestContext.getResponse());
+
+            return CachedResponse.capture(requestContext.getResponse());
+        });
+
+        if (!executionResult[0]) {
+            if (cachedResponse != null) {
+                cachedResponse.writeTo(requestContext.getResponse());
+                executionResult[1] = true;
             } else {
-                response.addHeader("Content-Type", "text/plain");
+                executionResult[1] = this.executeAction(routeMatch, requestContext, phaseStart);
+                this.compressResponse(requestContext.getRequest(), requestContext.getResponse());
+            }
+        }
+
+        this.recordRequest(routeName, requestStart, !executionResult[1]);
+    }
 
-                response.setContent(result.getBytes());
+    private Object awaitActionResult(Future<?> actionFuture, long deadlineNanos) throws InvocationTargetException, IllegalAccessException, TimeoutException {
+        try {
+            return actionFuture.get(deadlineNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof InvocationTargetException) {
+                throw (InvocationTargetException) cause;
+            } else if (cause instanceof IllegalAccessException) {
+                throw (IllegalAccessException) cause;
             }
+
+            throw new InvocationTargetException(cause);
+        } catch (TimeoutException e) {
+            actionFuture.cancel(true);
+
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            actionFuture.cancel(true);
+
+            throw new CancellationException("Interrupted while waiting for the action");
+        }
+    }
+
+    private Object invokeAction(RouteMatch routeMatch, Object[] actionArguments, long deadlineNanos) throws InvocationTargetException, IllegalAccessException, TimeoutException {
+        if (this.actionExecutor == null) {
+            return this.controllerActionInvoker.invokeAction(routeMatch, actionArguments);
+        }
+
+        return this.awaitActionResult(this.actionExecutor.submit(() -> this.controllerActionInvoker.invokeAction(routeMatch, actionArguments)), deadlineNanos);
+    }
+
+    private boolean isBodylessRender(RouteMatch routeMatch, HttpSoletRequest request) {
+        return HttpMethods.HEAD.equals(request.getMethod()) && routeMatch.getControllerActionPair().getCachePolicy() == null;
+    }
+
+    private void writeActionResult(RouteMatch routeMatch, RequestContext requestContext, String result, long phaseStart) throws InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException, IOException {
+        HttpSoletResponse response = requestContext.getResponse();
+        String routeName = routeMatch.getRouteName();
+
+        response.setStatusCode(HttpStatus.OK);
+
+        if (result.startsWith("template:") && this.isBodylessRender(routeMatch, requestContext.getRequest())) {
+            response.addHeader("Content-Type", "text/html; charset=utf-8");
+        } else if (result.startsWith("template:")) {
+            String templateName = result.split(":")[1];
+
+            byte[] content = this.templateEngine.renderTemplate(templateName, (Model) requestContext.getObject(Model.class));
+            phaseStart = this.recordPhase(routeName, DispatchMetrics.Phase.RENDER, phaseStart);
+
+            response.addHeader("Content-Type", "text/html; charset=utf-8");
+            this.addETag(response, content);
+
+            response.setContent(content);
+            this.recordPhase(routeName, DispatchMetrics.Phase.WRITE, phaseStart);
+        } else if (result.startsWith("redirect:")) {
+            String route = result.split(":")[1];
+
+            response.setStatusCode(HttpStatus.SEE_OTHER);
+
+            response.addHeader("Location", route);
+        } else {
+            byte[] content = result.getBytes(StandardCharsets.UTF_8);
+
+            response.addHeader("Content-Type", "text/plain; charset=utf-8");
+            this.addETag(response, content);
+
+            response.setContent(content);
+            this.recordPhase(routeName, DispatchMetrics.Phase.WRITE, phaseStart);
+        }
+    }
+
+    private void writeErrorStatus(HttpSoletRequest request, HttpSoletResponse response, HttpStatus status, String message) {
+        response.setStatusCode(status);
+
+        response.addHeader("Content-Type", "text/html");
+
+        response.setContent(("<h1>[ERROR] " + request.getMethod() + " " + request.getRequestUrl() + "</h1><br/><h3>[MESSAGE] " + message + "</h3>").getBytes());
+    }
+
+    private boolean executeAction(RouteMatch routeMatch, RequestContext requestContext, long phaseStart) {
+        HttpSoletResponse response = requestContext.getResponse();
+        String routeName = routeMatch.getRouteName();
+
+        try {
+            Object[] actionArguments = this.controllerActionInvoker.getActionArguments(routeMatch, requestContext);
+            phaseStart = this.recordPhase(routeName, DispatchMetrics.Phase.BINDING, phaseStart);
+
+            long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.asyncTimeoutMillis);
+            Object actionResult = this.invokeAction(routeMatch, actionArguments, deadlineNanos);
+
+            if (actionResult instanceof CompletionStage) {
+                actionResult = this.awaitActionResult(((CompletionStage<?>) actionResult).toCompletableFuture(), deadlineNanos);
+            }
+
+            phaseStart = this.recordPhase(routeName, DispatchMetrics.Phase.INVOCATION, phaseStart);
+
+            this.writeActionResult(routeMatch, requestContext, actionResult.toString(), phaseStart);
+
+            return true;
+        } catch (TimeoutException e) {
+            this.writeErrorStatus(requestContext.getRequest(), response, GATEWAY_TIMEOUT, "The action did not complete within " + this.asyncTimeoutMillis + " ms.");
+
+            return false;
+        } catch (RejectedExecutionException | CancellationException e) {
+            this.writeErrorStatus(requestContext.getRequest(), response, SERVICE_UNAVAILABLE, "The action could not be executed.");
+
+            return false;
         } catch (NoSuchMethodException | InstantiationException | IllegalAccessException | InvocationTargetException | IOException e) {
             response.setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
 
@@ -126,6 +461,8 @@ public class DispatcherSolet extends BaseHttpSolet {
             content.append("</p>");
 
             response.setContent(content.toString().getBytes());
+
+            return false;
         }
     }
 
@@ -135,30 +472,120 @@ public class DispatcherSolet extends BaseHttpSolet {
 
         this.applicationClassesFolderPath = soletConfig.getAttribute("application-folder") + "classes" + File.separator;
 
-        this.dependencyContainer = new DependencyContainer();
-        this.controllerLoadingService = new ControllerLoadingService();
-        this.templateEngine = new TemplateEngine(super.getSoletConfig().getAttribute("application-folder") + "resources" + File.separator + "templates" + File.separator);
-        this.controllerActionInvoker = new ControllerActionInvoker(this.dependencyContainer);
+        DependencyContainer dependencyContainer = new DependencyContainer();
+        this.controllerLoadingService = new ControllerLoadingService(
+                this.isEnabled("parallel-class-scanning"),
+                new ConversionService(),
+                dependencyContainer,
+                this.getStringAttribute("controller-instantiation", ControllerLoadingService.EAGER_INSTANTIATION));
+        this.templateEngine = new TemplateEngine(super.getSoletConfig().getAttribute("application-folder") + "resources" + File.separator + "templates" + File.separator, this.isEnabled("templates-reload"));
+        this.controllerActionInvoker = new ControllerActionInvoker();
+        this.asyncExecutor = ActionExecutors.createExecutor(
+                this.getStringAttribute("async-executor", ActionExecutors.COMMON_EXECUTOR),
+                this.getIntAttribute("async-executor-threads", Runtime.getRuntime().availableProcessors() * 4));
+        this.asyncTimeoutMillis = this.getIntAttribute("async-timeout-ms", DEFAULT_ASYNC_TIMEOUT_MILLIS);
+        this.actionExecutor = ActionExecutors.createActionExecutor(
+                this.getStringAttribute("action-executor", null),
+                this.getIntAttribute("action-executor-threads", DEFAULT_ACTION_EXECUTOR_THREADS),
+                this.getIntAttribute("action-executor-queue-capacity", DEFAULT_ACTION_EXECUTOR_QUEUE_CAPACITY));
+        dependencyContainer.addInstantiatedObject(Executor.class, this.asyncExecutor);
+        String staticFolderPath = super.getSoletConfig().getAttribute("application-folder") + "resources" + File.separator + "static" + File.separator;
+
+        if (this.isEnabled("static-resources", true) && new File(staticFolderPath).isDirectory()) {
+            this.staticResourceHandler = new StaticResourceHandler(
+                    staticFolderPath,
+                    this.getIntAttribute("static-cache-max-file-size", DEFAULT_STATIC_CACHE_MAX_FILE_SIZE),
+                    this.getIntAttribute("static-cache-max-bytes", DEFAULT_STATIC_CACHE_MAX_BYTES),
+                    this.isEnabled("static-resources-reload"));
+        }
+
+        this.responseCache = new ResponseCache(
+                this.getIntAttribute("response-cache-max-entries", DEFAULT_RESPONSE_CACHE_MAX_ENTRIES),
+                this.getIntAttribute("response-cache-max-bytes", DEFAULT_RESPONSE_CACHE_MAX_BYTES));
+
+        // conditional-get only adds ETags: the container cannot send 304 Not Modified, so it is inert and off by default.
+        if (this.isEnabled("conditional-get")) {
+            this.conditionalRequests = new ConditionalRequests();
+        }
+
+        if (this.isEnabled("response-compression")) {
+            this.responseCompressor = new ResponseCompressor(
+                    this.getIntAttribute("response-compression-min-size", DEFAULT_COMPRESSION_MIN_SIZE),
+                    this.getIntAttribute("response-compression-level", Deflater.DEFAULT_COMPRESSION),
+                    this.getIntAttribute("response-compression-pool-size", Runtime.getRuntime().availableProcessors() * 2));
+        }
+
+        if (this.isEnabled("metrics-enabled")) {
+            this.dispatchMetrics = new DispatchMetrics();
+
+            if (soletConfig.getAttribute("metrics-route") != null) {
+                this.metricsRoute = String.valueOf(soletConfig.getAttribute("metrics-route"));
+            }
+        }
 
         try {
             this.controllerLoadingService.loadControllerActionHandlers(this.applicationClassesFolderPath);
         } catch (NoSuchMethodException | ClassNotFoundException | InvocationTargetException | IllegalAccessException | InstantiationException | IOException e) {
             e.printStackTrace();
         }
+
+        if (this.isEnabled("hot-reload") && new File(this.applicationClassesFolderPath).isDirectory()) {
+            try {
+                this.classesFolderWatcher = new ClassesFolderWatcher(
+                        Paths.get(this.applicationClassesFolderPath),
+                        this.getIntAttribute("hot-reload-debounce-ms", DEFAULT_HOT_RELOAD_DEBOUNCE_MILLIS),
+                        this::reloadControllers);
+                this.classesFolderWatcher.start();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private void reloadControllers() {
+        try {
+            this.controllerLoadingService.loadControllerActionHandlers(this.applicationClassesFolderPath);
+            this.responseCache.clear();
+        } catch (NoSuchMethodException | ClassNotFoundException | InvocationTargetException | IllegalAccessException | InstantiationException | IOException | RuntimeException | LinkageError e) {
+            e.printStackTrace();
+        }
+    }
+
+    public void destroy() {
+        if (this.classesFolderWatcher != null) {
+            try {
+                this.classesFolderWatcher.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+
+            this.classesFolderWatcher = null;
+        }
+
+        if (this.actionExecutor != null) {
+            this.actionExecutor.shutdown();
+        }
+
+        if (this.asyncExecutor instanceof ExecutorService && this.asyncExecutor != ForkJoinPool.commonPool()) {
+            ((ExecutorService) this.asyncExecutor).shutdown();
+        }
+
+        if (this.responseCompressor != null) {
+            this.responseCompressor.close();
+        }
     }
 
     @Override
     public void service(HttpSoletRequest request, HttpSoletResponse response) {
-        this.dependencyContainer.addInstantiatedObject(HttpSoletRequest.class.getSimpleName(), request);
-        this.dependencyContainer.addInstantiatedObject(HttpSoletResponse.class.getSimpleName(), response);
+        String requestMethod = request.getMethod();
+
+        if (HttpMethods.HEAD.equals(requestMethod) || HttpMethods.OPTIONS.equals(requestMethod) || HttpMethods.PATCH.equals(requestMethod)) {
+            this.handleRequest(request, response);
 
-        if (request.getSession() != null) {
-            this.dependencyContainer.addInstantiatedObject(HttpSession.class.getSimpleName(), request.getSession());
+            return;
         }
 
         super.service(request, response);
-
-        this.dependencyContainer.evictCachedStaticStates();
     }
 
     @Override
@@ -170,4 +597,14 @@ public class DispatcherSolet extends BaseHttpSolet {
     protected void doPost(HttpSoletRequest request, HttpSoletResponse response) {
         this.handleRequest(request, response);
     }
+
+    @Override
+    protected void doPut(HttpSoletRequest request, HttpSoletResponse response) {
+        this.handleRequest(request, response);
+    }
+
+    @Override
+    protected void doDelete(HttpSoletRequest request, HttpSoletResponse response) {
+        this.handleRequest(request, response);
+    }
 }
@@ -0,0 +1,82 @@
+package app.summer.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyHistogram {
+
+    private static final int BUCKETS_COUNT = 64;
+
+    private final AtomicLongArray buckets;
+
+    private final LongAdder count;
+
+    private final LongAdder totalNanos;
+
+    private final AtomicLong maxNanos;
+
+    public LatencyHistogram() {
+        this.buckets = new AtomicLongArray(BUCKETS_COUNT);
+        this.count = new LongAdder();
+        this.totalNanos = new LongAdder();
+        this.maxNanos = new AtomicLong();
+    }
+
+    private static int getBucketIndex(long nanos) {
+        return nanos <= 0 ? 0 : BUCKETS_COUNT - Long.numberOfLeadingZeros(nanos);
+    }
+
+    private static long getBucketUpperBound(int bucketIndex) {
+        return bucketIndex >= BUCKETS_COUNT - 1 ? Long.MAX_VALUE : (1L << bucketIndex) - 1;
+    }
+
+    public void record(long nanos) {
+        this.buckets.incrementAndGet(Math.min(getBucketIndex(nanos), BUCKETS_COUNT - 1));
+        this.count.increment();
+        this.totalNanos.add(nanos);
+
+        long currentMax;
+
+        while (nanos > (currentMax = this.maxNanos.get())) {
+            if (this.maxNanos.compareAndSet(currentMax, nanos)) {
+                break;
+            }
+        }
+    }
+
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    public long getMeanNanos() {
+        long count = this.count.sum();
+
+        return count == 0 ? 0 : this.totalNanos.sum() / count;
+    }
+
+    public long getMaxNanos() {
+        return this.maxNanos.get();
+    }
+
+    public long getPercentileNanos(double percentile) {
+        long count = this.count.sum();
+
+        if (count == 0) {
+            return 0;
+        }
+
+        long threshold = (long) Math.ceil(count * percentile / 100.0);
+        long seen = 0;
+
+        for (int i = 0; i < BUCKETS_COUNT; i++) {
+            seen += this.buckets.get(i);
+
+            if (seen >= threshold) {
+                return Math.min(getBucketUpperBound(i), this.getMaxNanos());
+            }
+        }
+
+        return this.getMaxNanos();
+    }
+}
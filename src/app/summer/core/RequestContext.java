@@ -0,0 +1,64 @@
+package app.summer.core;
+
+import app.broccolina.solet.HttpSoletRequest;
+import app.broccolina.solet.HttpSoletResponse;
+import app.javache.http.HttpSession;
+import app.summer.api.Scope;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class RequestContext {
+
+    private final DependencyContainer dependencyContainer;
+
+    private final HttpSoletRequest request;
+
+    private final HttpSoletResponse response;
+
+    private final Map<Class<?>, Object> requestScopedObjects;
+
+    RequestContext(DependencyContainer dependencyContainer, HttpSoletRequest request, HttpSoletResponse response) {
+        this.dependencyContainer = dependencyContainer;
+        this.request = request;
+        this.response = response;
+        this.requestScopedObjects = new HashMap<>();
+
+        this.requestScopedObjects.put(HttpSoletRequest.class, request);
+        this.requestScopedObjects.put(HttpSoletResponse.class, response);
+        this.requestScopedObjects.put(HttpSession.class, request.getSession());
+    }
+
+    public HttpSoletRequest getRequest() {
+        return this.request;
+    }
+
+    public HttpSoletResponse getResponse() {
+        return this.response;
+    }
+
+    public Object getObject(Class<?> type) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        if (this.requestScopedObjects.containsKey(type)) {
+            return this.requestScopedObjects.get(type);
+        } else if (this.dependencyContainer.isStaticStateClass(type)) {
+            Object result = this.dependencyContainer.createStaticStateObject(type);
+
+            this.requestScopedObjects.put(type, result);
+
+            return result;
+        }
+
+        ComponentDefinition componentDefinition = this.dependencyContainer.getComponentDefinition(type);
+
+        if (componentDefinition != null && componentDefinition.getScope() == Scope.REQUEST) {
+            Object result = componentDefinition.createInstance(this::getObject);
+
+            this.requestScopedObjects.put(type, result);
+
+            return result;
+        }
+
+        return this.dependencyContainer.getObject(type);
+    }
+}
@@ -0,0 +1,323 @@
+package app.summer.core;
+
+import app.broccolina.solet.HttpSoletRequest;
+import app.summer.api.Cached;
+import app.summer.util.RouteMatch;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class ResponseCache {
+
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private static final int MIN_COMPACTION_THRESHOLD = 64;
+
+    private final int maxEntries;
+
+    private final long maxBytes;
+
+    private final Map<String, Entry> entries;
+
+    private final Queue<Entry> evictionQueue;
+
+    private final AtomicInteger queuedEntries;
+
+    private final AtomicBoolean isCompacting;
+
+    private final Map<String, CompletableFuture<CachedResponse>> inFlightComputations;
+
+    private final AtomicLong totalBytes;
+
+    private final AtomicLong generation;
+
+    private final LongAdder hits;
+
+    private final LongAdder misses;
+
+    private final LongAdder evictions;
+
+    public ResponseCache(int maxEntries, long maxBytes) {
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.entries = new ConcurrentHashMap<>();
+        this.evictionQueue = new ConcurrentLinkedQueue<>();
+        this.queuedEntries = new AtomicInteger();
+        this.isCompacting = new AtomicBoolean();
+        this.inFlightComputations = new ConcurrentHashMap<>();
+        this.totalBytes = new AtomicLong();
+        this.generation = new AtomicLong();
+        this.hits = new LongAdder();
+        this.misses = new LongAdder();
+        this.evictions = new LongAdder();
+    }
+
+    public String createKey(RouteMatch routeMatch, HttpSoletRequest request, Cached cachePolicy, String contentEncoding) {
+        StringBuilder key = new StringBuilder(routeMatch.getRouteName()).append(KEY_SEPARATOR);
+
+        if (cachePolicy.pathVariables().length == 0) {
+            key.append(request.getRequestUrl());
+        } else {
+            for (String pathVariableName : cachePolicy.pathVariables()) {
+                key.append(routeMatch.getPathVariable(pathVariableName)).append(KEY_SEPARATOR);
+            }
+        }
+
+        if (cachePolicy.perSession()) {
+            key.append(KEY_SEPARATOR).append(request.getSession() != null ? request.getSession().getId() : "");
+        }
+
+        if (contentEncoding != null) {
+            key.append(KEY_SEPARATOR).append(contentEncoding);
+        }
+
+        return key.toString();
+    }
+
+    private CachedResponse lookup(String key) {
+        Entry entry = this.entries.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.isExpired(System.nanoTime())) {
+            this.remove(entry);
+
+            return null;
+        }
+
+        if (!entry.isReferenced) {
+            entry.isReferenced = true;
+        }
+
+        return entry.response;
+    }
+
+    private void store(String key, CachedResponse response, long ttlNanos, long loadGeneration) {
+        if (response.getSize() > this.maxBytes || loadGeneration != this.generation.get()) {
+            return;
+        }
+
+        Entry entry = new Entry(key, response, System.nanoTime() + ttlNanos);
+        Entry replacedEntry = this.entries.put(key, entry);
+
+        this.totalBytes.addAndGet(response.getSize() - (replacedEntry != null ? replacedEntry.response.getSize() : 0));
+
+        if (loadGeneration != this.generation.get()) {
+            this.remove(entry);
+
+            return;
+        }
+
+        this.evictionQueue.offer(entry);
+
+        if (this.queuedEntries.incrementAndGet() > Math.max(MIN_COMPACTION_THRESHOLD, this.entries.size() * 2)) {
+            this.compactEvictionQueue();
+        }
+
+        this.evictIfNeeded();
+    }
+
+    private boolean remove(Entry entry) {
+        if (!this.entries.remove(entry.key, entry)) {
+            return false;
+        }
+
+        this.totalBytes.addAndGet(-entry.response.getSize());
+
+        return true;
+    }
+
+    private boolean isLive(Entry entry) {
+        return this.entries.get(entry.key) == entry;
+    }
+
+    private Entry pollEvictionQueue() {
+        Entry entry = this.evictionQueue.poll();
+
+        if (entry != null) {
+            this.queuedEntries.decrementAndGet();
+        }
+
+        return entry;
+    }
+
+    private void compactEvictionQueue() {
+        if (!this.isCompacting.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            for (int i = this.queuedEntries.get(); i > 0; i--) {
+                Entry entry = this.pollEvictionQueue();
+
+                if (entry == null) {
+                    return;
+                }
+
+                if (this.isLive(entry)) {
+                    this.evictionQueue.offer(entry);
+                    this.queuedEntries.incrementAndGet();
+                }
+            }
+        } finally {
+            this.isCompacting.set(false);
+        }
+    }
+
+    private void evictIfNeeded() {
+        while (this.entries.size() > this.maxEntries || this.totalBytes.get() > this.maxBytes) {
+            Entry entry = this.pollEvictionQueue();
+
+            if (entry == null) {
+                return;
+            }
+
+            if (!this.isLive(entry)) {
+                continue;
+            }
+
+            if (entry.isReferenced && !entry.isExpired(System.nanoTime())) {
+                entry.isReferenced = false;
+
+                this.evictionQueue.offer(entry);
+                this.queuedEntries.incrementAndGet();
+
+                continue;
+            }
+
+            if (this.remove(entry)) {
+                this.evictions.increment();
+            }
+        }
+    }
+
+    public CachedResponse getOrCompute(String key, long ttlSeconds, Supplier<CachedResponse> loader) {
+        CachedResponse cachedResponse = this.lookup(key);
+
+        if (cachedResponse != null) {
+            this.hits.increment();
+
+            return cachedResponse;
+        }
+
+        CompletableFuture<CachedResponse> computation = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> inFlightComputation = this.inFlightComputations.putIfAbsent(key, computation);
+
+        if (inFlightComputation != null) {
+            try {
+                cachedResponse = inFlightComputation.join();
+            } catch (CompletionException e) {
+                return null;
+            }
+
+            if (cachedResponse != null) {
+                this.hits.increment();
+            }
+
+            return cachedResponse;
+        }
+
+        long loadGeneration = this.generation.get();
+
+        try {
+            cachedResponse = this.lookup(key);
+
+            if (cachedResponse != null) {
+                this.hits.increment();
+                computation.complete(cachedResponse);
+
+                return cachedResponse;
+            }
+
+            this.misses.increment();
+
+            cachedResponse = loader.get();
+
+            if (cachedResponse != null) {
+                this.store(key, cachedResponse, TimeUnit.SECONDS.toNanos(ttlSeconds), loadGeneration);
+            }
+
+            computation.complete(cachedResponse);
+
+            return cachedResponse;
+        } catch (RuntimeException | Error e) {
+            computation.complete(null);
+
+            throw e;
+        } finally {
+            this.inFlightComputations.remove(key, computation);
+        }
+    }
+
+    public void clear() {
+        this.generation.incrementAndGet();
+
+        for (Entry entry : this.entries.values()) {
+            this.remove(entry);
+        }
+
+        this.compactEvictionQueue();
+    }
+
+    public long getHits() {
+        return this.hits.sum();
+    }
+
+    public long getMisses() {
+        return this.misses.sum();
+    }
+
+    public long getEvictions() {
+        return this.evictions.sum();
+    }
+
+    public int getSize() {
+        return this.entries.size();
+    }
+
+    public long getTotalBytes() {
+        return this.totalBytes.get();
+    }
+
+    public String dump() {
+        return "response-cache entries=" + this.getSize()
+                + " bytes=" + this.getTotalBytes()
+                + " hits=" + this.getHits()
+                + " misses=" + this.getMisses()
+                + " evictions=" + this.getEvictions()
+                + System.lineSeparator();
+    }
+
+    private static class Entry {
+
+        private final String key;
+
+        private final CachedResponse response;
+
+        private final long expiresAtNanos;
+
+        private volatile boolean isReferenced;
+
+        private Entry(String key, CachedResponse response, long expiresAtNanos) {
+            this.key = key;
+            this.response = response;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return this.expiresAtNanos - now <= 0;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package app.summer.core;
+
+import app.broccolina.solet.HttpSoletRequest;
+import app.broccolina.solet.HttpSoletResponse;
+import app.javache.http.HttpStatus;
+import app.summer.util.HttpHeaders;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+public class ResponseCompressor {
+
+    private static final String GZIP_ENCODING = "gzip";
+
+    private static final String WEAK_PREFIX = "W/";
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+    private static final int GZIP_TRAILER_LENGTH = 8;
+
+    private final int minimumSize;
+
+    private final int compressionLevel;
+
+    private final BlockingQueue<Deflater> deflaters;
+
+    private final LongAdder compressedResponses;
+
+    private final LongAdder originalBytes;
+
+    private final LongAdder compressedBytes;
+
+    private volatile boolean closed;
+
+    public ResponseCompressor(int minimumSize, int compressionLevel, int poolSize) {
+        this.minimumSize = minimumSize;
+        this.compressionLevel = compressionLevel;
+        this.deflaters = new ArrayBlockingQueue<>(Math.max(poolSize, 1));
+        this.compressedResponses = new LongAdder();
+        this.originalBytes = new LongAdder();
+        this.compressedBytes = new LongAdder();
+    }
+
+    private static boolean isCompressibleContentType(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+
+        String mediaType = contentType.toLowerCase();
+
+        return mediaType.startsWith("text/")
+                || mediaType.contains("json")
+                || mediaType.contains("javascript")
+                || mediaType.contains("xml");
+    }
+
+    private static void writeIntLE(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) value;
+        bytes[offset + 1] = (byte) (value >>> 8);
+        bytes[offset + 2] = (byte) (value >>> 16);
+        bytes[offset + 3] = (byte) (value >>> 24);
+    }
+
+    private Deflater acquireDeflater() {
+        Deflater deflater = this.deflaters.poll();
+
+        return deflater != null ? deflater : new Deflater(this.compressionLevel, true);
+    }
+
+    private void releaseDeflater(Deflater deflater) {
+        deflater.reset();
+
+        if (this.closed || !this.deflaters.offer(deflater)) {
+            deflater.end();
+        } else if (this.closed) {
+            this.endPooledDeflaters();
+        }
+    }
+
+    private void endPooledDeflaters() {
+        Deflater deflater;
+
+        while ((deflater = this.deflaters.poll()) != null) {
+            deflater.end();
+        }
+    }
+
+    public byte[] compress(byte[] content) {
+        Deflater deflater = this.acquireDeflater();
+
+        try {
+            deflater.setInput(content);
+            deflater.finish();
+
+            byte[] compressed = new byte[GZIP_HEADER.length + (content.length >> 1) + 64];
+            int length = GZIP_HEADER.length;
+
+            System.arraycopy(GZIP_HEADER, 0, compressed, 0, GZIP_HEADER.length);
+
+            while (!deflater.finished()) {
+                if (length == compressed.length) {
+                    compressed = Arrays.copyOf(compressed, compressed.length << 1);
+                }
+
+                length += deflater.deflate(compressed, length, compressed.length - length);
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(content);
+
+            if (length + GZIP_TRAILER_LENGTH > compressed.length) {
+                compressed = Arrays.copyOf(compressed, length + GZIP_TRAILER_LENGTH);
+            }
+
+            writeIntLE(compressed, length, (int) crc.getValue());
+            writeIntLE(compressed, length + 4, content.length);
+
+            return length + GZIP_TRAILER_LENGTH == compressed.length ? compressed : Arrays.copyOf(compressed, length + GZIP_TRAILER_LENGTH);
+        } finally {
+            this.releaseDeflater(deflater);
+        }
+    }
+
+    public String negotiateEncoding(HttpSoletRequest request) {
+        return HttpHeaders.acceptsEncoding(HttpHeaders.getHeader(request.getHeaders(), "Accept-Encoding"), GZIP_ENCODING) ? GZIP_ENCODING : null;
+    }
+
+    public boolean apply(HttpSoletRequest request, HttpSoletResponse response) {
+        byte[] content = response.getContent();
+        Map<String, String> headers = response.getHeaders();
+
+        if (response.getStatusCode() != HttpStatus.OK
+                || content == null
+                || content.length < this.minimumSize
+                || HttpHeaders.getHeader(headers, "Content-Encoding") != null
+                || !isCompressibleContentType(HttpHeaders.getHeader(headers, "Content-Type"))) {
+            return false;
+        }
+
+        response.addHeader("Vary", "Accept-Encoding");
+
+        if (this.negotiateEncoding(request) == null) {
+            return false;
+        }
+
+        byte[] compressedContent = this.compress(content);
+
+        if (compressedContent.length >= content.length) {
+            return false;
+        }
+
+        String eTag = headers.get(ConditionalRequests.ETAG_HEADER);
+
+        if (eTag != null && !eTag.startsWith(WEAK_PREFIX)) {
+            headers.put(ConditionalRequests.ETAG_HEADER, WEAK_PREFIX + eTag);
+        }
+
+        response.addHeader("Content-Encoding", GZIP_ENCODING);
+        response.setContent(compressedContent);
+
+        this.compressedResponses.increment();
+        this.originalBytes.add(content.length);
+        this.compressedBytes.add(compressedContent.length);
+
+        return true;
+    }
+
+    public long getCompressedResponses() {
+        return this.compressedResponses.sum();
+    }
+
+    public long getOriginalBytes() {
+        return this.originalBytes.sum();
+    }
+
+    public long getCompressedBytes() {
+        return this.compressedBytes.sum();
+    }
+
+    public String dump() {
+        return "response-compression responses=" + this.getCompressedResponses()
+                + " original-bytes=" + this.getOriginalBytes()
+                + " compressed-bytes=" + this.getCompressedBytes()
+                + System.lineSeparator();
+    }
+
+    public void close() {
+        this.closed = true;
+        this.endPooledDeflaters();
+    }
+}
@@ -0,0 +1,255 @@
+package app.summer.core;
+
+import app.broccolina.solet.HttpSoletRequest;
+import app.broccolina.solet.HttpSoletResponse;
+import app.javache.http.HttpStatus;
+import app.summer.util.HttpHeaders;
+import app.summer.util.HttpMethods;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+public class StaticResourceHandler {
+
+    private static final String GZIP_ENCODING = "gzip";
+
+    private static final String GZIP_FILE_EXTENSION = ".gz";
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private static final String FINGERPRINTED_CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private static final String DEFAULT_CACHE_CONTROL = "no-cache";
+
+    private static final Pattern FINGERPRINTED_FILE_NAME_PATTERN = Pattern.compile("^.+[.-][0-9a-fA-F]{8,}\\.[a-zA-Z0-9]+$");
+
+    private static final Map<String, String> CONTENT_TYPES;
+
+    static {
+        Map<String, String> contentTypes = new HashMap<>();
+
+        contentTypes.put("html", "text/html; charset=utf-8");
+        contentTypes.put("htm", "text/html; charset=utf-8");
+        contentTypes.put("css", "text/css; charset=utf-8");
+        contentTypes.put("js", "application/javascript; charset=utf-8");
+        contentTypes.put("json", "application/json; charset=utf-8");
+        contentTypes.put("map", "application/json; charset=utf-8");
+        contentTypes.put("txt", "text/plain; charset=utf-8");
+        contentTypes.put("xml", "application/xml; charset=utf-8");
+        contentTypes.put("svg", "image/svg+xml");
+        contentTypes.put("png", "image/png");
+        contentTypes.put("jpg", "image/jpeg");
+        contentTypes.put("jpeg", "image/jpeg");
+        contentTypes.put("gif", "image/gif");
+        contentTypes.put("webp", "image/webp");
+        contentTypes.put("ico", "image/x-icon");
+        contentTypes.put("woff", "font/woff");
+        contentTypes.put("woff2", "font/woff2");
+        contentTypes.put("ttf", "font/ttf");
+        contentTypes.put("pdf", "application/pdf");
+
+        CONTENT_TYPES = Collections.unmodifiableMap(contentTypes);
+    }
+
+    private final Path staticFolder;
+
+    private final int maxCachedFileSize;
+
+    private final long maxCachedBytes;
+
+    private final boolean checkForModifications;
+
+    private final Map<String, StaticResource> cachedResources;
+
+    private final AtomicLong cachedBytes;
+
+    public StaticResourceHandler(String staticFolderPath, int maxCachedFileSize, long maxCachedBytes, boolean checkForModifications) {
+        this.staticFolder = Paths.get(staticFolderPath).toAbsolutePath().normalize();
+        this.maxCachedFileSize = maxCachedFileSize;
+        this.maxCachedBytes = maxCachedBytes;
+        this.checkForModifications = checkForModifications;
+        this.cachedResources = new ConcurrentHashMap<>();
+        this.cachedBytes = new AtomicLong();
+    }
+
+    private static String getContentType(String fileName) {
+        int extensionIndex = fileName.lastIndexOf('.');
+
+        if (extensionIndex == -1) {
+            return DEFAULT_CONTENT_TYPE;
+        }
+
+        return CONTENT_TYPES.getOrDefault(fileName.substring(extensionIndex + 1).toLowerCase(), DEFAULT_CONTENT_TYPE);
+    }
+
+    private static String createETag(long lastModified, long size, boolean isCompressed) {
+        return "\"" + Long.toHexString(lastModified) + "-" + Long.toHexString(size) + (isCompressed ? "-gz" : "") + "\"";
+    }
+
+    private Path resolveFile(String requestUrl) {
+        int queryIndex = requestUrl.indexOf('?');
+        String resourcePath = queryIndex != -1 ? requestUrl.substring(0, queryIndex) : requestUrl;
+
+        while (resourcePath.startsWith("/")) {
+            resourcePath = resourcePath.substring(1);
+        }
+
+        if (resourcePath.isEmpty() || resourcePath.indexOf('\0') != -1) {
+            return null;
+        }
+
+        Path filePath = this.staticFolder.resolve(resourcePath).normalize();
+
+        return filePath.startsWith(this.staticFolder) && Files.isRegularFile(filePath) ? filePath : null;
+    }
+
+    private StaticResource loadResource(Path filePath, String contentType, boolean isCompressed) throws IOException {
+        long size = Files.size(filePath);
+        long lastModified = Files.getLastModifiedTime(filePath).toMillis();
+
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Static resource " + filePath + " is too large to be served");
+        }
+
+        if (size > this.maxCachedFileSize) {
+            return new StaticResource(filePath, contentType, null, size, lastModified, isCompressed);
+        }
+
+        byte[] content = Files.readAllBytes(filePath);
+
+        return new StaticResource(filePath, contentType, content, content.length, lastModified, isCompressed);
+    }
+
+    private StaticResource getResource(Path filePath, String contentType, boolean isCompressed) throws IOException {
+        String resourceKey = filePath.toString();
+        StaticResource staticResource = this.cachedResources.get(resourceKey);
+
+        if (staticResource != null && (!this.checkForModifications || Files.getLastModifiedTime(filePath).toMillis() == staticResource.lastModified)) {
+            return staticResource;
+        }
+
+        StaticResource loadedResource = this.loadResource(filePath, contentType, isCompressed);
+
+        if (loadedResource.content == null || this.cachedBytes.addAndGet(loadedResource.size) - (staticResource != null ? staticResource.size : 0) > this.maxCachedBytes) {
+            if (loadedResource.content != null) {
+                this.cachedBytes.addAndGet(-loadedResource.size);
+            }
+
+            if (staticResource != null && this.cachedResources.remove(resourceKey, staticResource)) {
+                this.cachedBytes.addAndGet(-staticResource.size);
+            }
+
+            return loadedResource;
+        }
+
+        StaticResource[] replacedResource = new StaticResource[1];
+        StaticResource cachedResource = this.cachedResources.compute(resourceKey, (key, currentResource) -> {
+            if (currentResource != staticResource) {
+                return currentResource;
+            }
+
+            replacedResource[0] = currentResource;
+
+            return loadedResource;
+        });
+
+        if (cachedResource != loadedResource) {
+            this.cachedBytes.addAndGet(-loadedResource.size);
+        } else if (replacedResource[0] != null) {
+            this.cachedBytes.addAndGet(-replacedResource[0].size);
+        }
+
+        return loadedResource;
+    }
+
+    public boolean handleRequest(HttpSoletRequest request, HttpSoletResponse response) throws IOException {
+        if (!HttpMethods.isGetOrHead(request.getMethod())) {
+            return false;
+        }
+
+        Path filePath = this.resolveFile(request.getRequestUrl());
+
+        if (filePath == null) {
+            return false;
+        }
+
+        String fileName = filePath.getFileName().toString();
+        String contentType = getContentType(fileName);
+        Path compressedFilePath = filePath.resolveSibling(fileName + GZIP_FILE_EXTENSION);
+        boolean hasCompressedVariant = !fileName.endsWith(GZIP_FILE_EXTENSION) && Files.isRegularFile(compressedFilePath);
+
+        StaticResource staticResource = hasCompressedVariant && HttpHeaders.acceptsEncoding(HttpHeaders.getHeader(request.getHeaders(), "Accept-Encoding"), GZIP_ENCODING)
+                ? this.getResource(compressedFilePath, contentType, true)
+                : this.getResource(filePath, contentType, false);
+
+        response.setStatusCode(HttpStatus.OK);
+
+        response.addHeader("Content-Type", staticResource.contentType);
+        response.addHeader("Cache-Control", FINGERPRINTED_FILE_NAME_PATTERN.matcher(fileName).matches() ? FINGERPRINTED_CACHE_CONTROL : DEFAULT_CACHE_CONTROL);
+        response.addHeader(ConditionalRequests.ETAG_HEADER, staticResource.eTag);
+        response.addHeader(ConditionalRequests.LAST_MODIFIED_HEADER, staticResource.lastModifiedHeader);
+
+        if (hasCompressedVariant) {
+            response.addHeader("Vary", "Accept-Encoding");
+        }
+
+        if (staticResource.isCompressed) {
+            response.addHeader("Content-Encoding", GZIP_ENCODING);
+        }
+
+        if (HttpMethods.HEAD.equals(request.getMethod())) {
+            response.addHeader("Content-Length", String.valueOf(staticResource.size));
+            response.setContent(new byte[0]);
+        } else {
+            response.setContent(staticResource.content != null ? staticResource.content : Files.readAllBytes(staticResource.filePath));
+        }
+
+        return true;
+    }
+
+    public int getCachedResourcesCount() {
+        return this.cachedResources.size();
+    }
+
+    public long getCachedBytes() {
+        return this.cachedBytes.get();
+    }
+
+    private static final class StaticResource {
+
+        private final Path filePath;
+
+        private final String contentType;
+
+        private final byte[] content;
+
+        private final long size;
+
+        private final long lastModified;
+
+        private final boolean isCompressed;
+
+        private final String eTag;
+
+        private final String lastModifiedHeader;
+
+        private StaticResource(Path filePath, String contentType, byte[] content, long size, long lastModified, boolean isCompressed) {
+            this.filePath = filePath;
+            this.contentType = contentType;
+            this.content = content;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.isCompressed = isCompressed;
+            this.eTag = createETag(lastModified, size, isCompressed);
+            this.lastModifiedHeader = ConditionalRequests.formatHttpDate(lastModified);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package app.summer.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+public class ClassFileScanner {
+
+    private static final int CLASS_FILE_MAGIC = 0xCAFEBABE;
+
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    private final Set<String> annotationDescriptors;
+
+    public ClassFileScanner(Class<?>... annotationTypes) {
+        this.annotationDescriptors = new HashSet<>();
+
+        for (Class<?> annotationType : annotationTypes) {
+            this.annotationDescriptors.add("L" + annotationType.getName().replace('.', '/') + ";");
+        }
+    }
+
+    public String findAnnotatedClassName(Path classFile) throws IOException {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(Files.readAllBytes(classFile)))) {
+            if (input.readInt() != CLASS_FILE_MAGIC) {
+                throw new IOException("Not a class file: " + classFile);
+            }
+
+            input.skipBytes(4);
+
+            String[] utf8Entries = new String[input.readUnsignedShort()];
+            int[] classNameIndexes = new int[utf8Entries.length];
+
+            this.readConstantPool(input, utf8Entries, classNameIndexes);
+
+            input.skipBytes(2);
+            String className = utf8Entries[classNameIndexes[input.readUnsignedShort()]];
+            input.skipBytes(2);
+            input.skipBytes(input.readUnsignedShort() * 2);
+
+            this.skipMembers(input);
+            this.skipMembers(input);
+
+            int attributesCount = input.readUnsignedShort();
+
+            for (int i = 0; i < attributesCount; i++) {
+                String attributeName = utf8Entries[input.readUnsignedShort()];
+                int attributeLength = input.readInt();
+
+                if (!RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                    input.skipBytes(attributeLength);
+                    continue;
+                }
+
+                int annotationsCount = input.readUnsignedShort();
+
+                for (int j = 0; j < annotationsCount; j++) {
+                    if (this.annotationDescriptors.contains(utf8Entries[input.readUnsignedShort()])) {
+                        return className.replace('/', '.');
+                    }
+
+                    this.skipElementValuePairs(input);
+                }
+            }
+
+            return null;
+        }
+    }
+
+    private void readConstantPool(DataInputStream input, String[] utf8Entries, int[] classNameIndexes) throws IOException {
+        for (int i = 1; i < utf8Entries.length; i++) {
+            int tag = input.readUnsignedByte();
+
+            switch (tag) {
+                case 1:
+                    utf8Entries[i] = input.readUTF();
+                    break;
+                case 7:
+                    classNameIndexes[i] = input.readUnsignedShort();
+                    break;
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    input.skipBytes(2);
+                    break;
+                case 15:
+                    input.skipBytes(3);
+                    break;
+                case 3:
+                case 4:
+                case 9:
+                case 10:
+                case 11:
+                case 12:
+                case 17:
+                case 18:
+                    input.skipBytes(4);
+                    break;
+                case 5:
+                case 6:
+                    input.skipBytes(8);
+                    i++;
+                    break;
+                default:
+                    throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+    }
+
+    private void skipMembers(DataInputStream input) throws IOException {
+        int membersCount = input.readUnsignedShort();
+
+        for (int i = 0; i < membersCount; i++) {
+            input.skipBytes(6);
+
+            int attributesCount = input.readUnsignedShort();
+
+            for (int j = 0; j < attributesCount; j++) {
+                input.skipBytes(2);
+                input.skipBytes(input.readInt());
+            }
+        }
+    }
+
+    private void skipElementValuePairs(DataInputStream input) throws IOException {
+        int pairsCount = input.readUnsignedShort();
+
+        for (int i = 0; i < pairsCount; i++) {
+            input.skipBytes(2);
+            this.skipElementValue(input);
+        }
+    }
+
+    private void skipElementValue(DataInputStream input) throws IOException {
+        int tag = input.readUnsignedByte();
+
+        switch (tag) {
+            case 'e':
+                input.skipBytes(4);
+                break;
+            case '@':
+                input.skipBytes(2);
+                this.skipElementValuePairs(input);
+                break;
+            case '[':
+                int valuesCount = input.readUnsignedShort();
+
+                for (int i = 0; i < valuesCount; i++) {
+                    this.skipElementValue(input);
+                }
+                break;
+            default:
+                input.skipBytes(2);
+                break;
+        }
+    }
+}
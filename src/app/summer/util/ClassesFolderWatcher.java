@@ -0,0 +1,118 @@
+package app.summer.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+public class ClassesFolderWatcher implements Closeable {
+
+    private static final String WATCHER_THREAD_NAME = "summer-hot-reload";
+
+    private final long debounceMillis;
+
+    private final Runnable changeListener;
+
+    private final WatchService watchService;
+
+    private final Thread watcherThread;
+
+    public ClassesFolderWatcher(Path classesRootDirectory, long debounceMillis, Runnable changeListener) throws IOException {
+        this.debounceMillis = debounceMillis;
+        this.changeListener = changeListener;
+        this.watchService = classesRootDirectory.getFileSystem().newWatchService();
+        this.watcherThread = new Thread(this::watch, WATCHER_THREAD_NAME);
+        this.watcherThread.setDaemon(true);
+
+        this.registerDirectories(classesRootDirectory);
+    }
+
+    public void start() {
+        this.watcherThread.start();
+    }
+
+    private void registerDirectories(Path rootDirectory) throws IOException {
+        try (Stream<Path> paths = Files.walk(rootDirectory)) {
+            Iterator<Path> directories = paths.filter(Files::isDirectory).iterator();
+
+            while (directories.hasNext()) {
+                directories.next().register(
+                        this.watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY,
+                        StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        }
+    }
+
+    private boolean processEvents(WatchKey watchKey) {
+        Path directory = (Path) watchKey.watchable();
+        boolean isChanged = false;
+
+        for (WatchEvent<?> event : watchKey.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                isChanged = true;
+
+                continue;
+            }
+
+            Path changedPath = directory.resolve((Path) event.context());
+
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(changedPath)) {
+                try {
+                    this.registerDirectories(changedPath);
+                } catch (IOException e) {
+                    e.printStackTrace();
+                }
+            }
+
+            if (!changedPath.getFileName().toString().equals(RouteIndex.INDEX_FILE_NAME)) {
+                isChanged = true;
+            }
+        }
+
+        watchKey.reset();
+
+        return isChanged;
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                boolean isChanged = this.processEvents(this.watchService.take());
+                WatchKey watchKey;
+
+                while ((watchKey = this.watchService.poll(this.debounceMillis, TimeUnit.MILLISECONDS)) != null) {
+                    isChanged |= this.processEvents(watchKey);
+                }
+
+                if (!isChanged) {
+                    continue;
+                }
+
+                try {
+                    this.changeListener.run();
+                } catch (RuntimeException e) {
+                    e.printStackTrace();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException ignored) {
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.watcherThread.interrupt();
+        this.watchService.close();
+    }
+}
@@ -0,0 +1,408 @@
+package app.summer.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CompiledTemplate {
+
+    private static final String PLACEHOLDER_PREFIX = "${";
+
+    private static final String PLACEHOLDER_SUFFIX = "}";
+
+    private static final String FOR_DIRECTIVE = "#for ";
+
+    private static final String END_FOR_DIRECTIVE = "/for";
+
+    private static final String IF_DIRECTIVE = "#if ";
+
+    private static final String ELSE_DIRECTIVE = "#else";
+
+    private static final String END_IF_DIRECTIVE = "/if";
+
+    private static final String LOOP_SEPARATOR = ":";
+
+    private static final String NEGATION_PREFIX = "!";
+
+    private final Node[] nodes;
+
+    private final int slotsCount;
+
+    private final int literalsLength;
+
+    private final long lastModified;
+
+    private final Map<String, Long> dependencies;
+
+    private CompiledTemplate(Node[] nodes, int slotsCount, int literalsLength, long lastModified, Map<String, Long> dependencies) {
+        this.nodes = nodes;
+        this.slotsCount = slotsCount;
+        this.literalsLength = literalsLength;
+        this.lastModified = lastModified;
+        this.dependencies = dependencies;
+    }
+
+    public static CompiledTemplate compile(String templateContent, long lastModified) {
+        return compile(templateContent, lastModified, Collections.emptyMap());
+    }
+
+    public static CompiledTemplate compile(String templateContent, long lastModified, Map<String, Long> dependencies) {
+        TemplateParser templateParser = new TemplateParser(templateContent);
+        Node[] nodes = templateParser.parseNodes(null);
+
+        return new CompiledTemplate(nodes, templateParser.maxSlotsCount, templateParser.literalsLength, lastModified, Collections.unmodifiableMap(new LinkedHashMap<>(dependencies)));
+    }
+
+    public long getLastModified() {
+        return this.lastModified;
+    }
+
+    public Map<String, Long> getDependencies() {
+        return this.dependencies;
+    }
+
+    public int getLiteralsLength() {
+        return this.literalsLength;
+    }
+
+    public void render(Map<String, Object> attributes, TemplateBuffer templateBuffer) {
+        renderNodes(this.nodes, attributes, new Object[this.slotsCount], templateBuffer);
+    }
+
+    private static void renderNodes(Node[] nodes, Map<String, Object> attributes, Object[] slots, TemplateBuffer templateBuffer) {
+        for (Node node : nodes) {
+            node.render(attributes, slots, templateBuffer);
+        }
+    }
+
+    private static boolean isTruthy(Object value) {
+        if (value == null) {
+            return false;
+        } else if (value instanceof Boolean) {
+            return (Boolean) value;
+        } else if (value instanceof Number) {
+            return ((Number) value).doubleValue() != 0;
+        } else if (value instanceof CharSequence) {
+            return ((CharSequence) value).length() != 0;
+        } else if (value instanceof Collection) {
+            return !((Collection<?>) value).isEmpty();
+        } else if (value instanceof Map) {
+            return !((Map<?, ?>) value).isEmpty();
+        } else if (value.getClass().isArray()) {
+            return Array.getLength(value) != 0;
+        }
+
+        return true;
+    }
+
+    private interface Node {
+
+        void render(Map<String, Object> attributes, Object[] slots, TemplateBuffer templateBuffer);
+    }
+
+    private static class LiteralNode implements Node {
+
+        private final byte[] literal;
+
+        private LiteralNode(byte[] literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public void render(Map<String, Object> attributes, Object[] slots, TemplateBuffer templateBuffer) {
+            templateBuffer.write(this.literal);
+        }
+    }
+
+    private static class PropertyPath {
+
+        private static final Object UNRESOLVED = new Object();
+
+        private final String expression;
+
+        private final String rootName;
+
+        private final int rootSlot;
+
+        private final String[] propertyNames;
+
+        private final CachedAccessor[] cachedAccessors;
+
+        private PropertyPath(String expression, List<String> slotNames) {
+            String[] pathSegments = expression.split("\\.", -1);
+
+            this.expression = expression;
+            this.rootName = pathSegments[0];
+            this.rootSlot = slotNames.lastIndexOf(this.rootName);
+            this.propertyNames = new String[pathSegments.length - 1];
+            this.cachedAccessors = new CachedAccessor[this.propertyNames.length];
+
+            System.arraycopy(pathSegments, 1, this.propertyNames, 0, this.propertyNames.length);
+        }
+
+        private Object getProperty(Object target, int propertyIndex) {
+            if (target == null) {
+                return null;
+            } else if (target instanceof Map) {
+                return ((Map<?, ?>) target).get(this.propertyNames[propertyIndex]);
+            }
+
+            CachedAccessor cachedAccessor = this.cachedAccessors[propertyIndex];
+
+            if (cachedAccessor == null || cachedAccessor.targetType != target.getClass()) {
+                cachedAccessor = new CachedAccessor(target.getClass(), PropertyAccessors.getAccessor(target.getClass(), this.propertyNames[propertyIndex]));
+                this.cachedAccessors[propertyIndex] = cachedAccessor;
+            }
+
+            return PropertyAccessors.invoke(cachedAccessor.accessor, target);
+        }
+
+        private Object resolve(Map<String, Object> attributes, Object[] slots) {
+            Object value;
+
+            if (this.rootSlot != -1) {
+                value = slots[this.rootSlot];
+            } else if (this.propertyNames.length != 0 && attributes != null && attributes.containsKey(this.expression)) {
+                return attributes.get(this.expression);
+            } else if (attributes != null && attributes.containsKey(this.rootName)) {
+                value = attributes.get(this.rootName);
+            } else {
+                return UNRESOLVED;
+            }
+
+            for (int i = 0; i < this.propertyNames.length; i++) {
+                value = this.getProperty(value, i);
+            }
+
+            return value;
+        }
+    }
+
+    private static class CachedAccessor {
+
+        private final Class<?> targetType;
+
+        private final MethodHandle accessor;
+
+        private CachedAccessor(Class<?> targetType, MethodHandle accessor) {
+            this.targetType = targetType;
+            this.accessor = accessor;
+        }
+    }
+
+    private static class ExpressionNode implements Node {
+
+        private final PropertyPath propertyPath;
+
+        private final byte[] unresolvedPlaceholder;
+
+        private ExpressionNode(PropertyPath propertyPath, String placeholder) {
+            this.propertyPath = propertyPath;
+            this.unresolvedPlaceholder = (PLACEHOLDER_PREFIX + placeholder + PLACEHOLDER_SUFFIX).getBytes(StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public void render(Map<String, Object> attributes, Object[] slots, TemplateBuffer templateBuffer) {
+            Object value = this.propertyPath.resolve(attributes, slots);
+
+            if (value == PropertyPath.UNRESOLVED) {
+                templateBuffer.write(this.unresolvedPlaceholder);
+            } else {
+                templateBuffer.writeUtf8(String.valueOf(value));
+            }
+        }
+    }
+
+    private static class ForNode implements Node {
+
+        private final int itemSlot;
+
+        private final PropertyPath iterablePath;
+
+        private final Node[] body;
+
+        private ForNode(int itemSlot, PropertyPath iterablePath, Node[] body) {
+            this.itemSlot = itemSlot;
+            this.iterablePath = iterablePath;
+            this.body = body;
+        }
+
+        @Override
+        public void render(Map<String, Object> attributes, Object[] slots, TemplateBuffer templateBuffer) {
+            Object iterable = this.iterablePath.resolve(attributes, slots);
+
+            if (iterable instanceof Iterable) {
+                for (Object item : (Iterable<?>) iterable) {
+                    slots[this.itemSlot] = item;
+                    renderNodes(this.body, attributes, slots, templateBuffer);
+                }
+            } else if (iterable instanceof Map) {
+                for (Object entry : ((Map<?, ?>) iterable).entrySet()) {
+                    slots[this.itemSlot] = entry;
+                    renderNodes(this.body, attributes, slots, templateBuffer);
+                }
+            } else if (iterable != null && iterable.getClass().isArray()) {
+                int length = Array.getLength(iterable);
+
+                for (int i = 0; i < length; i++) {
+                    slots[this.itemSlot] = Array.get(iterable, i);
+                    renderNodes(this.body, attributes, slots, templateBuffer);
+                }
+            }
+
+            slots[this.itemSlot] = null;
+        }
+    }
+
+    private static class IfNode implements Node {
+
+        private final PropertyPath conditionPath;
+
+        private final boolean isNegated;
+
+        private final Node[] thenNodes;
+
+        private final Node[] elseNodes;
+
+        private IfNode(PropertyPath conditionPath, boolean isNegated, Node[] thenNodes, Node[] elseNodes) {
+            this.conditionPath = conditionPath;
+            this.isNegated = isNegated;
+            this.thenNodes = thenNodes;
+            this.elseNodes = elseNodes;
+        }
+
+        @Override
+        public void render(Map<String, Object> attributes, Object[] slots, TemplateBuffer templateBuffer) {
+            Object condition = this.conditionPath.resolve(attributes, slots);
+            boolean isTruthy = condition != PropertyPath.UNRESOLVED && isTruthy(condition);
+
+            renderNodes(isTruthy != this.isNegated ? this.thenNodes : this.elseNodes, attributes, slots, templateBuffer);
+        }
+    }
+
+    private static class TemplateParser {
+
+        private final String templateContent;
+
+        private final List<String> slotNames;
+
+        private int position;
+
+        private int maxSlotsCount;
+
+        private int literalsLength;
+
+        private String lastDirective;
+
+        private TemplateParser(String templateContent) {
+            this.templateContent = templateContent;
+            this.slotNames = new ArrayList<>();
+        }
+
+        private void addLiteral(List<Node> nodes, String literal) {
+            if (literal.isEmpty()) {
+                return;
+            }
+
+            byte[] literalBytes = literal.getBytes(StandardCharsets.UTF_8);
+
+            this.literalsLength += literalBytes.length;
+            nodes.add(new LiteralNode(literalBytes));
+        }
+
+        private Node[] parseNodes(String enclosingDirective) {
+            List<Node> nodes = new ArrayList<>();
+
+            while (true) {
+                int placeholderStart = this.templateContent.indexOf(PLACEHOLDER_PREFIX, this.position);
+                int placeholderEnd = placeholderStart != -1 ? this.templateContent.indexOf(PLACEHOLDER_SUFFIX, placeholderStart + PLACEHOLDER_PREFIX.length()) : -1;
+
+                if (placeholderEnd == -1) {
+                    if (enclosingDirective != null) {
+                        throw new IllegalArgumentException("Missing closing directive for ${" + enclosingDirective + "}");
+                    }
+
+                    this.addLiteral(nodes, this.templateContent.substring(this.position));
+                    this.position = this.templateContent.length();
+
+                    return nodes.toArray(new Node[0]);
+                }
+
+                this.addLiteral(nodes, this.templateContent.substring(this.position, placeholderStart));
+                this.position = placeholderEnd + PLACEHOLDER_SUFFIX.length();
+
+                String placeholder = this.templateContent.substring(placeholderStart + PLACEHOLDER_PREFIX.length(), placeholderEnd);
+                String expression = placeholder.trim();
+
+                if (expression.startsWith(FOR_DIRECTIVE)) {
+                    nodes.add(this.parseFor(expression));
+                } else if (expression.startsWith(IF_DIRECTIVE)) {
+                    nodes.add(this.parseIf(expression));
+                } else if (expression.equals(END_FOR_DIRECTIVE) || expression.equals(END_IF_DIRECTIVE) || expression.equals(ELSE_DIRECTIVE)) {
+                    if (enclosingDirective == null) {
+                        throw new IllegalArgumentException("Unexpected ${" + expression + "}");
+                    }
+
+                    this.lastDirective = expression;
+
+                    return nodes.toArray(new Node[0]);
+                } else {
+                    nodes.add(new ExpressionNode(new PropertyPath(expression, this.slotNames), placeholder));
+                }
+            }
+        }
+
+        private Node parseFor(String expression) {
+            String[] loopParts = expression.substring(FOR_DIRECTIVE.length()).split(LOOP_SEPARATOR, 2);
+
+            if (loopParts.length != 2 || loopParts[0].trim().isEmpty() || loopParts[1].trim().isEmpty()) {
+                throw new IllegalArgumentException("Invalid loop ${" + expression + "}, expected ${#for item : items}");
+            }
+
+            PropertyPath iterablePath = new PropertyPath(loopParts[1].trim(), this.slotNames);
+            int itemSlot = this.slotNames.size();
+
+            this.slotNames.add(loopParts[0].trim());
+            this.maxSlotsCount = Math.max(this.maxSlotsCount, this.slotNames.size());
+
+            Node[] body = this.parseNodes(expression);
+
+            this.slotNames.remove(itemSlot);
+
+            if (!END_FOR_DIRECTIVE.equals(this.lastDirective)) {
+                throw new IllegalArgumentException("Expected ${" + END_FOR_DIRECTIVE + "} to close ${" + expression + "}");
+            }
+
+            return new ForNode(itemSlot, iterablePath, body);
+        }
+
+        private Node parseIf(String expression) {
+            String condition = expression.substring(IF_DIRECTIVE.length()).trim();
+            boolean isNegated = condition.startsWith(NEGATION_PREFIX);
+
+            if (isNegated) {
+                condition = condition.substring(NEGATION_PREFIX.length()).trim();
+            }
+
+            PropertyPath conditionPath = new PropertyPath(condition, this.slotNames);
+            Node[] thenNodes = this.parseNodes(expression);
+            Node[] elseNodes = new Node[0];
+
+            if (ELSE_DIRECTIVE.equals(this.lastDirective)) {
+                elseNodes = this.parseNodes(expression);
+            }
+
+            if (!END_IF_DIRECTIVE.equals(this.lastDirective)) {
+                throw new IllegalArgumentException("Expected ${" + END_IF_DIRECTIVE + "} to close ${" + expression + "}");
+            }
+
+            return new IfNode(conditionPath, isNegated, thenNodes, elseNodes);
+        }
+    }
+}
@@ -1,25 +1,59 @@
 package app.summer.util;
 
+import app.summer.api.Cached;
+import app.summer.core.ActionInvoker;
+import app.summer.core.ActionInvokers;
+import app.summer.core.ArgumentResolver;
+import app.summer.core.ArgumentResolvers;
+import app.summer.core.ControllerProvider;
+import app.summer.core.ConversionService;
+
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
-import java.util.Collections;
-import java.util.LinkedHashSet;
-import java.util.Set;
 
 public class ControllerActionPair {
 
     private Object controller;
 
+    private ControllerProvider controllerProvider;
+
     private Method action;
 
-    private Set<Object> parameters;
+    private ActionInvoker actionInvoker;
+
+    private ArgumentResolver[] argumentResolvers;
+
+    private Cached cachePolicy;
 
     public ControllerActionPair(Object controller, Method action) {
+        this(controller, action, new ArgumentResolvers(new ConversionService()).createArgumentResolvers(action));
+    }
+
+    public ControllerActionPair(Object controller, Method action, ArgumentResolver[] argumentResolvers) {
         this.setController(controller);
         this.setAction(action);
-        this.parameters = new LinkedHashSet<>();
+        this.setActionInvoker(ActionInvokers.createActionInvoker(controller, action));
+        this.setArgumentResolvers(argumentResolvers);
+        this.setCachePolicy(action.getAnnotation(Cached.class));
+    }
+
+    public ControllerActionPair(ControllerProvider controllerProvider, Method action, ArgumentResolver[] argumentResolvers) {
+        this.controllerProvider = controllerProvider;
+        this.setAction(action);
+        this.setActionInvoker(ActionInvokers.createLazyActionInvoker(controllerProvider, action));
+        this.setArgumentResolvers(argumentResolvers);
+        this.setCachePolicy(action.getAnnotation(Cached.class));
     }
 
     public Object getController() {
+        if (this.controller == null && this.controllerProvider != null) {
+            try {
+                this.controller = this.controllerProvider.getController();
+            } catch (InvocationTargetException e) {
+                throw new IllegalStateException("Controller for " + this.action + " could not be instantiated", e.getCause());
+            }
+        }
+
         return this.controller;
     }
 
@@ -35,15 +69,27 @@ public class ControllerActionPair {
         this.action = action;
     }
 
-    public Set<Object> getParameters() {
-        return Collections.unmodifiableSet(this.parameters);
+    public ActionInvoker getActionInvoker() {
+        return this.actionInvoker;
+    }
+
+    private void setActionInvoker(ActionInvoker actionInvoker) {
+        this.actionInvoker = actionInvoker;
+    }
+
+    public ArgumentResolver[] getArgumentResolvers() {
+        return this.argumentResolvers;
+    }
+
+    private void setArgumentResolvers(ArgumentResolver[] argumentResolvers) {
+        this.argumentResolvers = argumentResolvers;
     }
 
-    public void addParameter(Object parameter) {
-        this.parameters.add(parameter);
+    public Cached getCachePolicy() {
+        return this.cachePolicy;
     }
 
-    public void clearParameters() {
-        this.parameters.clear();
+    private void setCachePolicy(Cached cachePolicy) {
+        this.cachePolicy = cachePolicy;
     }
 }
@@ -1,60 +1,333 @@
 package app.summer.util;
 
+import app.summer.api.Component;
 import app.summer.api.Controller;
+import app.summer.api.DeleteMapping;
 import app.summer.api.GetMapping;
+import app.summer.api.PatchMapping;
 import app.summer.api.PostMapping;
+import app.summer.api.PutMapping;
+import app.summer.api.Scope;
+import app.summer.core.ArgumentResolvers;
+import app.summer.core.ControllerProvider;
+import app.summer.core.ConversionService;
+import app.summer.core.DependencyContainer;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class ControllerLoadingService {
 
-    private Map<String, Map<String, ControllerActionPair>> controllerActionsByRouteAndRequestMethod;
+    public static final String EAGER_INSTANTIATION = "eager";
 
-    private void loadController(Class controllerClass) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
-        if (controllerClass == null || (Arrays.stream(controllerClass.getAnnotations()).noneMatch(a -> a.annotationType().getSimpleName().equals(Controller.class.getSimpleName())))) {
-            return;
+    public static final String LAZY_INSTANTIATION = "lazy";
+
+    public static final String PARALLEL_INSTANTIATION = "parallel";
+
+    private final boolean parallelScanning;
+
+    private final String controllerInstantiation;
+
+    private final ClassLoader parentClassLoader;
+
+    private final AtomicReference<RouteTable> routeTable;
+
+    private ConversionService conversionService;
+
+    private DependencyContainer dependencyContainer;
+
+    private boolean isContainerUsed;
+
+    private volatile Map<String, Long> startupTimings;
+
+    private Map<String, Long> pendingStartupTimings;
+
+    private long lastStartupTimingNanos;
+
+    public ControllerLoadingService() {
+        this(false);
+    }
+
+    public ControllerLoadingService(boolean parallelScanning) {
+        this(parallelScanning, new ConversionService());
+    }
+
+    public ControllerLoadingService(boolean parallelScanning, ConversionService conversionService) {
+        this(parallelScanning, conversionService, new DependencyContainer());
+    }
+
+    public ControllerLoadingService(boolean parallelScanning, ConversionService conversionService, DependencyContainer dependencyContainer) {
+        this(parallelScanning, conversionService, dependencyContainer, EAGER_INSTANTIATION);
+    }
+
+    public ControllerLoadingService(boolean parallelScanning, ConversionService conversionService, DependencyContainer dependencyContainer, String controllerInstantiation) {
+        this.parallelScanning = parallelScanning;
+        this.controllerInstantiation = controllerInstantiation != null ? controllerInstantiation : EAGER_INSTANTIATION;
+        this.conversionService = conversionService;
+        this.dependencyContainer = dependencyContainer;
+        this.startupTimings = Collections.emptyMap();
+        this.pendingStartupTimings = new LinkedHashMap<>();
+        this.parentClassLoader = Thread.currentThread().getContextClassLoader();
+        this.routeTable = new AtomicReference<>(RouteTable.empty(dependencyContainer));
+    }
+
+    private String[] getRequestMapping(Method action) {
+        if (action.isAnnotationPresent(GetMapping.class)) {
+            return new String[]{HttpMethods.GET, action.getAnnotation(GetMapping.class).route()};
+        } else if (action.isAnnotationPresent(PostMapping.class)) {
+            return new String[]{HttpMethods.POST, action.getAnnotation(PostMapping.class).route()};
+        } else if (action.isAnnotationPresent(PutMapping.class)) {
+            return new String[]{HttpMethods.PUT, action.getAnnotation(PutMapping.class).route()};
+        } else if (action.isAnnotationPresent(DeleteMapping.class)) {
+            return new String[]{HttpMethods.DELETE, action.getAnnotation(DeleteMapping.class).route()};
+        } else if (action.isAnnotationPresent(PatchMapping.class)) {
+            return new String[]{HttpMethods.PATCH, action.getAnnotation(PatchMapping.class).route()};
         }
 
-        Object controllerObject = controllerClass.getDeclaredConstructor().newInstance();
+        return null;
+    }
 
-        Arrays
-                .stream(controllerClass.getDeclaredMethods())
-                .filter(m -> m.isAnnotationPresent(GetMapping.class) || m.isAnnotationPresent(PostMapping.class))
-                .forEach(m -> {
-                    if (m.isAnnotationPresent(GetMapping.class)) {
-                        this.controllerActionsByRouteAndRequestMethod.get("GET").put(PathFormatter.formatPath(m.getAnnotation(GetMapping.class).route()), new ControllerActionPair(controllerObject, m));
-                    } else if (m.isAnnotationPresent(PostMapping.class)) {
-                        this.controllerActionsByRouteAndRequestMethod.get("POST").put(PathFormatter.formatPath(m.getAnnotation(PostMapping.class).route()), new ControllerActionPair(controllerObject, m));
-                    }
-                });
+    private boolean isController(Class<?> applicationClass) {
+        return applicationClass != null && Arrays.stream(applicationClass.getAnnotations()).anyMatch(a -> a.annotationType().getSimpleName().equals(Controller.class.getSimpleName()));
+    }
+
+    private void registerComponents(LoadingContext loadingContext, List<Class<?>> applicationClasses) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        DependencyContainer dependencyContainer = loadingContext.dependencyContainer;
+
+        for (Class<?> applicationClass : applicationClasses) {
+            if (this.isController(applicationClass)) {
+                dependencyContainer.registerComponent(applicationClass, Scope.SINGLETON, !EAGER_INSTANTIATION.equals(this.controllerInstantiation));
+            } else if (applicationClass.isAnnotationPresent(Component.class)) {
+                dependencyContainer.registerComponent(applicationClass);
+            }
+        }
+
+        dependencyContainer.initializeComponents();
     }
 
-    private void loadClass(File currentFile, URLClassLoader classLoader, String packageName) throws ClassNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
-        if (currentFile.isDirectory()) {
-            for (File childFile : currentFile.listFiles()) {
-                this.loadClass(childFile, classLoader, packageName + currentFile.getName() + ".");
+    private List<ActionMapping> getActionMappings(Class<?> controllerClass) {
+        List<ActionMapping> actionMappings = new ArrayList<>();
+
+        for (Method action : controllerClass.getDeclaredMethods()) {
+            String[] requestMapping = this.getRequestMapping(action);
+
+            if (requestMapping != null) {
+                actionMappings.add(new ActionMapping(requestMapping[0], requestMapping[1], action));
             }
+        }
+
+        return actionMappings;
+    }
+
+    private static Object getController(DependencyContainer dependencyContainer, Class<?> controllerClass) throws InvocationTargetException {
+        try {
+            return dependencyContainer.getObject(controllerClass);
+        } catch (NoSuchMethodException | IllegalAccessException | InstantiationException e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
+    private List<ControllerActionPair> createControllerActionPairs(LoadingContext loadingContext, Class<?> controllerClass, List<ActionMapping> actionMappings) throws InvocationTargetException {
+        List<ControllerActionPair> controllerActionPairs = new ArrayList<>();
+        DependencyContainer dependencyContainer = loadingContext.dependencyContainer;
+        ArgumentResolvers argumentResolvers = loadingContext.argumentResolvers;
+
+        if (LAZY_INSTANTIATION.equals(this.controllerInstantiation)) {
+            ControllerProvider controllerProvider = () -> getController(dependencyContainer, controllerClass);
+
+            for (ActionMapping actionMapping : actionMappings) {
+                controllerActionPairs.add(new ControllerActionPair(controllerProvider, actionMapping.action, argumentResolvers.createArgumentResolvers(actionMapping.action)));
+            }
+
+            return controllerActionPairs;
+        }
+
+        Object controllerObject = getController(dependencyContainer, controllerClass);
+
+        for (ActionMapping actionMapping : actionMappings) {
+            controllerActionPairs.add(new ControllerActionPair(controllerObject, actionMapping.action, argumentResolvers.createArgumentResolvers(actionMapping.action)));
+        }
+
+        return controllerActionPairs;
+    }
+
+    private List<List<ControllerActionPair>> createControllerActionPairsInParallel(LoadingContext loadingContext, Map<Class<?>, List<ActionMapping>> actionMappingsByController) throws InvocationTargetException {
+        ExecutorService warmUpExecutor = Executors.newFixedThreadPool(Math.max(1, Math.min(actionMappingsByController.size(), Runtime.getRuntime().availableProcessors())));
+
+        try {
+            List<Future<List<ControllerActionPair>>> warmUpTasks = new ArrayList<>();
+
+            for (Map.Entry<Class<?>, List<ActionMapping>> controllerActionMappings : actionMappingsByController.entrySet()) {
+                warmUpTasks.add(warmUpExecutor.submit(() -> this.createControllerActionPairs(loadingContext, controllerActionMappings.getKey(), controllerActionMappings.getValue())));
+            }
+
+            List<List<ControllerActionPair>> controllerActionPairs = new ArrayList<>();
+
+            for (Future<List<ControllerActionPair>> warmUpTask : warmUpTasks) {
+                try {
+                    controllerActionPairs.add(warmUpTask.get());
+                } catch (ExecutionException e) {
+                    throw e.getCause() instanceof InvocationTargetException ? (InvocationTargetException) e.getCause() : new InvocationTargetException(e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+
+                    throw new InvocationTargetException(e);
+                }
+            }
+
+            return controllerActionPairs;
+        } finally {
+            warmUpExecutor.shutdown();
+        }
+    }
+
+    private void loadControllers(LoadingContext loadingContext, Map<Class<?>, List<ActionMapping>> actionMappingsByController) throws InvocationTargetException {
+        List<List<ControllerActionPair>> controllerActionPairs;
+
+        if (PARALLEL_INSTANTIATION.equals(this.controllerInstantiation)) {
+            controllerActionPairs = this.createControllerActionPairsInParallel(loadingContext, actionMappingsByController);
         } else {
-            if (!currentFile.getName().endsWith(".class")) {
-                return;
+            controllerActionPairs = new ArrayList<>();
+
+            for (Map.Entry<Class<?>, List<ActionMapping>> controllerActionMappings : actionMappingsByController.entrySet()) {
+                controllerActionPairs.add(this.createControllerActionPairs(loadingContext, controllerActionMappings.getKey(), controllerActionMappings.getValue()));
             }
+        }
+
+        int controllerIndex = 0;
+
+        for (List<ActionMapping> actionMappings : actionMappingsByController.values()) {
+            List<ControllerActionPair> pairs = controllerActionPairs.get(controllerIndex++);
+
+            for (int i = 0; i < actionMappings.size(); i++) {
+                loadingContext.addRoute(actionMappings.get(i).requestMethod, actionMappings.get(i).route, pairs.get(i));
+            }
+        }
+
+        loadingContext.controllerClasses = new ArrayList<>(actionMappingsByController.keySet());
+    }
+
+    private Method findAction(Class<?> controllerClass, String actionName, String actionDescriptor) {
+        for (Method action : controllerClass.getDeclaredMethods()) {
+            if (action.getName().equals(actionName) && RouteIndex.getMethodDescriptor(action).equals(actionDescriptor)) {
+                return action;
+            }
+        }
+
+        return null;
+    }
+
+    private boolean loadControllersFromIndex(LoadingContext loadingContext, RouteIndex routeIndex, ClassLoader classLoader) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException, InstantiationException {
+        Map<String, Class<?>> controllerClasses = new LinkedHashMap<>();
+        List<Class<?>> applicationClasses = new ArrayList<>();
+
+        try {
+            for (String componentClassName : routeIndex.getComponentClassNames()) {
+                applicationClasses.add(classLoader.loadClass(componentClassName));
+            }
+
+            for (RouteIndex.Entry entry : routeIndex.getEntries()) {
+                if (!controllerClasses.containsKey(entry.getControllerClassName())) {
+                    Class<?> controllerClass = classLoader.loadClass(entry.getControllerClassName());
+
+                    controllerClasses.put(entry.getControllerClassName(), controllerClass);
+                    applicationClasses.add(controllerClass);
+                }
+            }
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+
+        Map<Class<?>, List<ActionMapping>> actionMappingsByController = new LinkedHashMap<>();
+
+        for (RouteIndex.Entry entry : routeIndex.getEntries()) {
+            Class<?> controllerClass = controllerClasses.get(entry.getControllerClassName());
+            Method action = this.findAction(controllerClass, entry.getActionName(), entry.getActionDescriptor());
+
+            if (action == null) {
+                return false;
+            }
+
+            actionMappingsByController.computeIfAbsent(controllerClass, key -> new ArrayList<>()).add(new ActionMapping(entry.getRequestMethod(), entry.getRoute(), action));
+        }
 
-            String className = (packageName.replace("classes.", "")) + (currentFile.getName().replace(".class", "").replace("/", "."));
+        this.registerComponents(loadingContext, applicationClasses);
+        this.loadControllers(loadingContext, actionMappingsByController);
 
-            Class currentClassFile = classLoader.loadClass(className);
+        return true;
+    }
+
+    private RouteIndex readUpToDateRouteIndex(Path classesRootDirectory) throws IOException {
+        RouteIndex routeIndex = RouteIndex.read(classesRootDirectory.resolve(RouteIndex.INDEX_FILE_NAME));
+
+        if (routeIndex == null || !routeIndex.isUpToDate(classesRootDirectory)) {
+            return null;
+        }
+
+        return routeIndex;
+    }
 
-            this.loadController(currentClassFile);
+    private List<String> scanApplicationClassNames(Path classesRootDirectory) throws IOException {
+        List<Path> classFiles;
+
+        try (Stream<Path> paths = Files.walk(classesRootDirectory)) {
+            classFiles = paths
+                    .filter(path -> path.getFileName().toString().endsWith(".class"))
+                    .collect(Collectors.toList());
+        }
+
+        this.recordStartupTiming("discovery");
+
+        ClassFileScanner classFileScanner = new ClassFileScanner(Controller.class, Component.class);
+        Stream<Path> classFilesStream = this.parallelScanning ? classFiles.parallelStream() : classFiles.stream();
+
+        try {
+            return classFilesStream
+                    .map(classFile -> {
+                        try {
+                            return classFileScanner.findAnnotatedClassName(classFile);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    })
+                    .filter(Objects::nonNull)
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            this.recordStartupTiming("scanning");
         }
     }
 
-    private void loadApplicationClasses(String classesRootFolderPath) throws IOException, ClassNotFoundException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
+    private void loadApplicationClasses(LoadingContext loadingContext, String classesRootFolderPath) throws IOException, ClassNotFoundException, NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
         File classesRootDirectory = new File(classesRootFolderPath);
 
         if (!classesRootDirectory.exists() || !classesRootDirectory.isDirectory()) {
@@ -62,29 +335,224 @@ public class ControllerLoadingService {
         }
 
         URL[] urls = new URL[]{
-                new URL("file:/" + classesRootDirectory.getCanonicalPath() + File.separator)
+                classesRootDirectory.getCanonicalFile().toURI().toURL()
         };
 
-        URLClassLoader urlClassLoader = new URLClassLoader(urls, Thread.currentThread().getContextClassLoader());
+        URLClassLoader urlClassLoader = new URLClassLoader(urls, this.parentClassLoader);
 
         Thread.currentThread().setContextClassLoader(urlClassLoader);
 
-        this.loadClass(classesRootDirectory, urlClassLoader, "");
+        loadingContext.conversionService.registerConverters(urlClassLoader);
+        loadingContext.argumentResolvers = new ArgumentResolvers(loadingContext.conversionService, loadingContext.dependencyContainer);
+
+        RouteIndex routeIndex = this.readUpToDateRouteIndex(classesRootDirectory.toPath());
+
+        if (routeIndex != null) {
+            boolean isLoadedFromIndex = this.loadControllersFromIndex(loadingContext, routeIndex, urlClassLoader);
+
+            this.recordStartupTiming("index");
+
+            if (isLoadedFromIndex) {
+                return;
+            }
+
+            loadingContext.clearRoutes();
+        }
+
+        List<Class<?>> applicationClasses = new ArrayList<>();
+
+        for (String applicationClassName : this.scanApplicationClassNames(classesRootDirectory.toPath())) {
+            applicationClasses.add(urlClassLoader.loadClass(applicationClassName));
+        }
+
+        this.registerComponents(loadingContext, applicationClasses);
+        this.recordStartupTiming("components");
+
+        Map<Class<?>, List<ActionMapping>> actionMappingsByController = new LinkedHashMap<>();
+
+        for (Class<?> applicationClass : applicationClasses) {
+            if (this.isController(applicationClass)) {
+                actionMappingsByController.put(applicationClass, this.getActionMappings(applicationClass));
+            }
+        }
+
+        this.loadControllers(loadingContext, actionMappingsByController);
+
+        this.recordStartupTiming("loading");
     }
 
-    private void initMap() {
-        this.controllerActionsByRouteAndRequestMethod = new HashMap<>();
+    private void recordStartupTiming(String phase) {
+        long now = System.nanoTime();
 
-        this.controllerActionsByRouteAndRequestMethod.put("GET", new HashMap<>());
-        this.controllerActionsByRouteAndRequestMethod.put("POST", new HashMap<>());
+        this.pendingStartupTimings.put(phase, TimeUnit.NANOSECONDS.toMillis(now - this.lastStartupTimingNanos));
+        this.lastStartupTimingNanos = now;
     }
 
     public Map<String, Map<String, ControllerActionPair>> getLoadedControllersAndActions() {
-        return this.controllerActionsByRouteAndRequestMethod;
+        return this.routeTable.get().getControllerActions();
     }
 
-    public void loadControllerActionHandlers(String applicationClassesFolderPath) throws NoSuchMethodException, IOException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
-        this.initMap();
-        this.loadApplicationClasses(applicationClassesFolderPath);
+    public RouteTable getRouteTable() {
+        return this.routeTable.get();
+    }
+
+    public Map<String, Long> getStartupTimings() {
+        return this.startupTimings;
+    }
+
+    public Map<String, Long> getControllerStartupTimings() {
+        Map<String, Long> controllerStartupTimings = new LinkedHashMap<>();
+        RouteTable currentRouteTable = this.routeTable.get();
+        DependencyContainer routeTableContainer = currentRouteTable.getDependencyContainer();
+
+        currentRouteTable.getControllerClasses().stream()
+                .filter(controllerClass -> routeTableContainer.getInstantiationTiming(controllerClass) != null)
+                .sorted(Comparator.comparing((Class<?> controllerClass) -> routeTableContainer.getInstantiationTiming(controllerClass)).reversed())
+                .forEach(controllerClass -> controllerStartupTimings.put(controllerClass.getName(), TimeUnit.NANOSECONDS.toMillis(routeTableContainer.getInstantiationTiming(controllerClass))));
+
+        return controllerStartupTimings;
+    }
+
+    public RouteMatch findRouteMatch(String requestMethod, String url) {
+        return this.routeTable.get().findRouteMatch(requestMethod, url);
+    }
+
+    public String findAllowHeader(String url) {
+        return this.routeTable.get().findAllowHeader(url);
+    }
+
+    public RouteIndex createRouteIndex(String applicationClassesFolderPath) throws IOException, ClassNotFoundException {
+        Path classesRootDirectory = Paths.get(applicationClassesFolderPath);
+
+        List<RouteIndex.ClassFile> classFiles = RouteIndex.scanClassFiles(classesRootDirectory);
+        List<String> applicationClassNames = this.scanApplicationClassNames(classesRootDirectory);
+        List<String> componentClassNames = new ArrayList<>();
+        List<RouteIndex.Entry> entries = new ArrayList<>();
+
+        URL[] urls = new URL[]{
+                classesRootDirectory.toFile().getCanonicalFile().toURI().toURL()
+        };
+
+        try (URLClassLoader urlClassLoader = new URLClassLoader(urls, Thread.currentThread().getContextClassLoader())) {
+            for (String applicationClassName : applicationClassNames) {
+                Class<?> applicationClass = Class.forName(applicationClassName, false, urlClassLoader);
+
+                if (applicationClass.isAnnotationPresent(Component.class)) {
+                    componentClassNames.add(applicationClassName);
+                }
+
+                if (!this.isController(applicationClass)) {
+                    continue;
+                }
+
+                for (Method action : applicationClass.getDeclaredMethods()) {
+                    String[] requestMapping = this.getRequestMapping(action);
+
+                    if (requestMapping != null) {
+                        entries.add(new RouteIndex.Entry(requestMapping[0], requestMapping[1], applicationClassName, action.getName(), RouteIndex.getMethodDescriptor(action)));
+                    }
+                }
+            }
+        }
+
+        return new RouteIndex(classFiles, componentClassNames, entries);
+    }
+
+    public synchronized void loadControllerActionHandlers(String applicationClassesFolderPath) throws NoSuchMethodException, IOException, InstantiationException, IllegalAccessException, InvocationTargetException, ClassNotFoundException {
+        this.pendingStartupTimings = new LinkedHashMap<>();
+        this.lastStartupTimingNanos = System.nanoTime();
+
+        LoadingContext loadingContext = this.isContainerUsed
+                ? new LoadingContext(new ConversionService(), this.dependencyContainer.copyExternalObjects())
+                : new LoadingContext(this.conversionService, this.dependencyContainer);
+
+        this.isContainerUsed = true;
+
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+        try {
+            this.loadApplicationClasses(loadingContext, applicationClassesFolderPath);
+        } finally {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+        }
+
+        this.routeTable.set(loadingContext.createRouteTable(this.routeTable.get().getVersion() + 1));
+        this.startupTimings = Collections.unmodifiableMap(this.pendingStartupTimings);
+
+        this.conversionService = loadingContext.conversionService;
+        this.dependencyContainer = loadingContext.dependencyContainer;
+    }
+
+    private static class LoadingContext {
+
+        private final ConversionService conversionService;
+
+        private final DependencyContainer dependencyContainer;
+
+        private ArgumentResolvers argumentResolvers;
+
+        private Map<String, Map<String, ControllerActionPair>> controllerActionsByRouteAndRequestMethod;
+
+        private Map<String, RouteTrie> routeTriesByRequestMethod;
+
+        private RouteTrie allowedMethodsTrie;
+
+        private Set<String> routedRequestMethods;
+
+        private List<Class<?>> controllerClasses;
+
+        private LoadingContext(ConversionService conversionService, DependencyContainer dependencyContainer) {
+            this.conversionService = conversionService;
+            this.dependencyContainer = dependencyContainer;
+            this.argumentResolvers = new ArgumentResolvers(conversionService, dependencyContainer);
+            this.clearRoutes();
+        }
+
+        private void clearRoutes() {
+            this.controllerActionsByRouteAndRequestMethod = new HashMap<>();
+            this.routeTriesByRequestMethod = new HashMap<>();
+
+            for (String requestMethod : HttpMethods.ROUTABLE_METHODS) {
+                this.controllerActionsByRouteAndRequestMethod.put(requestMethod, new HashMap<>());
+                this.routeTriesByRequestMethod.put(requestMethod, new RouteTrie(requestMethod));
+            }
+
+            this.allowedMethodsTrie = new RouteTrie(HttpMethods.OPTIONS);
+            this.routedRequestMethods = new HashSet<>();
+            this.controllerClasses = new ArrayList<>();
+        }
+
+        private void addRoute(String requestMethod, String route, ControllerActionPair controllerActionPair) {
+            this.controllerActionsByRouteAndRequestMethod.get(requestMethod).put(PathFormatter.formatPath(route), controllerActionPair);
+            this.routeTriesByRequestMethod.get(requestMethod).addRoute(route, controllerActionPair);
+            this.allowedMethodsTrie.addAllowedMethod(route, requestMethod);
+            this.routedRequestMethods.add(requestMethod);
+        }
+
+        private RouteTable createRouteTable(long version) {
+            return new RouteTable(
+                    this.controllerActionsByRouteAndRequestMethod,
+                    this.routeTriesByRequestMethod,
+                    this.allowedMethodsTrie,
+                    this.routedRequestMethods,
+                    this.controllerClasses,
+                    this.dependencyContainer,
+                    version);
+        }
+    }
+
+    private static class ActionMapping {
+
+        private final String requestMethod;
+
+        private final String route;
+
+        private final Method action;
+
+        private ActionMapping(String requestMethod, String route, Method action) {
+            this.requestMethod = requestMethod;
+            this.route = route;
+            this.action = action;
+        }
     }
 }
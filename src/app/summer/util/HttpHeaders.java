@@ -0,0 +1,64 @@
+package app.summer.util;
+
+import java.util.Map;
+
+public final class HttpHeaders {
+
+    private HttpHeaders() {
+    }
+
+    public static String getHeader(Map<String, String> headers, String headerName) {
+        if (headers == null) {
+            return null;
+        }
+
+        String headerValue = headers.get(headerName);
+
+        if (headerValue != null) {
+            return headerValue;
+        }
+
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(headerName)) {
+                return header.getValue();
+            }
+        }
+
+        return null;
+    }
+
+    public static boolean acceptsEncoding(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        for (String codingToken : acceptEncoding.split(",")) {
+            String[] codingParts = codingToken.split(";");
+            String coding = codingParts[0].trim();
+
+            if (!coding.equalsIgnoreCase(encoding) && !coding.equals("*")) {
+                continue;
+            }
+
+            for (int i = 1; i < codingParts.length; i++) {
+                String parameter = codingParts[i].trim();
+
+                if (parameter.startsWith("q=") && isZeroQuality(parameter.substring(2))) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    private static boolean isZeroQuality(String quality) {
+        try {
+            return Double.parseDouble(quality.trim()) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
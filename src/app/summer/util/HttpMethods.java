@@ -0,0 +1,49 @@
+package app.summer.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.StringJoiner;
+
+public final class HttpMethods {
+
+    public static final String GET = "GET";
+
+    public static final String HEAD = "HEAD";
+
+    public static final String POST = "POST";
+
+    public static final String PUT = "PUT";
+
+    public static final String DELETE = "DELETE";
+
+    public static final String PATCH = "PATCH";
+
+    public static final String OPTIONS = "OPTIONS";
+
+    public static final List<String> ROUTABLE_METHODS = Collections.unmodifiableList(Arrays.asList(GET, POST, PUT, DELETE, PATCH));
+
+    private static final List<String> ALLOW_HEADER_ORDER = Collections.unmodifiableList(Arrays.asList(GET, HEAD, POST, PUT, DELETE, PATCH, OPTIONS));
+
+    private HttpMethods() {
+    }
+
+    public static boolean isGetOrHead(String requestMethod) {
+        return GET.equals(requestMethod) || HEAD.equals(requestMethod);
+    }
+
+    public static String formatAllowHeader(Collection<String> requestMethods) {
+        StringJoiner allowHeader = new StringJoiner(", ");
+
+        for (String requestMethod : ALLOW_HEADER_ORDER) {
+            if (requestMethods.contains(requestMethod)
+                    || (HEAD.equals(requestMethod) && requestMethods.contains(GET))
+                    || OPTIONS.equals(requestMethod)) {
+                allowHeader.add(requestMethod);
+            }
+        }
+
+        return allowHeader.toString();
+    }
+}
@@ -0,0 +1,19 @@
+package app.summer.util;
+
+import app.javache.http.HttpStatus;
+
+public final class HttpStatuses {
+
+    private HttpStatuses() {
+    }
+
+    public static HttpStatus find(String statusName, HttpStatus fallbackStatus) {
+        for (HttpStatus status : HttpStatus.values()) {
+            if (status.name().equals(statusName)) {
+                return status;
+            }
+        }
+
+        return fallbackStatus;
+    }
+}
@@ -1,5 +1,7 @@
 package app.summer.util;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -9,6 +11,14 @@ public class PathFormatter {
 
     private static final String PATH_PARSED_PARAMETER_PATTERN = "(?<group-name>[a-zA-Z0-9_-]+)";
 
+    private static final Pattern PATH_SEGMENT_PARAMETER_PATTERN = Pattern.compile("^" + PATH_PARAMETER_PATTERN + "$");
+
+    private static final Pattern EMBEDDED_PARAMETER_PATTERN = Pattern.compile(PATH_PARAMETER_PATTERN);
+
+    private static final String PATH_SEGMENT_VALUE_PATTERN = "([a-zA-Z0-9_-]+)";
+
+    private static final char PATH_SEPARATOR = '/';
+
     public static String formatPath(String path) {
         Pattern pathParameterPattern = Pattern.compile(PATH_PARAMETER_PATTERN);
         Matcher pathParameterMatcher = pathParameterPattern.matcher(path);
@@ -25,4 +35,81 @@ public class PathFormatter {
 
         return formatterPath;
     }
+
+    public static String[] splitPath(String path) {
+        List<String> segments = new ArrayList<>();
+
+        int segmentStart = 0;
+        int separatorIndex;
+
+        while ((separatorIndex = path.indexOf(PATH_SEPARATOR, segmentStart)) != -1) {
+            segments.add(path.substring(segmentStart, separatorIndex));
+            segmentStart = separatorIndex + 1;
+        }
+
+        segments.add(path.substring(segmentStart));
+
+        return segments.toArray(new String[0]);
+    }
+
+    public static String getParameterName(String segment) {
+        Matcher segmentParameterMatcher = PATH_SEGMENT_PARAMETER_PATTERN.matcher(segment);
+
+        if (!segmentParameterMatcher.find()) {
+            return null;
+        }
+
+        return segmentParameterMatcher.group(1);
+    }
+
+    public static Pattern compileSegmentPattern(String segment, List<String> parameterNames) {
+        if (segment.indexOf('{') == -1 && segment.indexOf('}') == -1) {
+            return null;
+        }
+
+        Matcher parameterMatcher = EMBEDDED_PARAMETER_PATTERN.matcher(segment);
+        StringBuilder segmentPattern = new StringBuilder();
+        int literalStart = 0;
+
+        while (parameterMatcher.find()) {
+            segmentPattern.append(quoteLiteral(segment, segment.substring(literalStart, parameterMatcher.start())))
+                    .append(PATH_SEGMENT_VALUE_PATTERN);
+            parameterNames.add(parameterMatcher.group(1));
+            literalStart = parameterMatcher.end();
+        }
+
+        segmentPattern.append(quoteLiteral(segment, segment.substring(literalStart)));
+
+        return Pattern.compile(segmentPattern.toString());
+    }
+
+    private static String quoteLiteral(String segment, String literal) {
+        if (literal.indexOf('{') != -1 || literal.indexOf('}') != -1) {
+            throw new IllegalArgumentException("Invalid path variable in route segment " + segment + ", variables must look like {name}");
+        }
+
+        return literal.isEmpty() ? literal : Pattern.quote(literal);
+    }
+
+    public static boolean isValidParameterValue(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char currentChar = value.charAt(i);
+
+            boolean isValidChar = (currentChar >= 'a' && currentChar <= 'z')
+                    || (currentChar >= 'A' && currentChar <= 'Z')
+                    || (currentChar >= '0' && currentChar <= '9')
+                    || currentChar == '_'
+                    || currentChar == '-';
+
+            if (!isValidChar) {
+                return false;
+            }
+        }
+
+        return true;
+    }
 }
@@ -0,0 +1,160 @@
+package app.summer.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class PropertyAccessors {
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final MethodHandle MISSING_ACCESSOR = MethodHandles.constant(Object.class, null);
+
+    private static final String ARRAY_LENGTH_PROPERTY = "length";
+
+    private static final MethodHandle ARRAY_LENGTH_ACCESSOR = createArrayLengthAccessor();
+
+    private static final ClassValue<Map<String, MethodHandle>> ACCESSORS = new ClassValue<Map<String, MethodHandle>>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private PropertyAccessors() {
+    }
+
+    public static MethodHandle getAccessor(Class<?> type, String propertyName) {
+        return ACCESSORS.get(type).computeIfAbsent(propertyName, name -> createAccessor(type, name));
+    }
+
+    public static Object getProperty(Object target, String propertyName) {
+        if (target == null) {
+            return null;
+        } else if (target instanceof Map) {
+            return ((Map<?, ?>) target).get(propertyName);
+        }
+
+        return invoke(getAccessor(target.getClass(), propertyName), target);
+    }
+
+    public static Object invoke(MethodHandle accessor, Object target) {
+        if (accessor == MISSING_ACCESSOR) {
+            return null;
+        }
+
+        try {
+            return (Object) accessor.invokeExact(target);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable throwable) {
+            throw new IllegalStateException(throwable);
+        }
+    }
+
+    private static MethodHandle createArrayLengthAccessor() {
+        try {
+            return MethodHandles.publicLookup()
+                    .findStatic(Array.class, "getLength", MethodType.methodType(int.class, Object.class))
+                    .asType(ACCESSOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static String capitalize(String propertyName) {
+        return Character.toUpperCase(propertyName.charAt(0)) + propertyName.substring(1);
+    }
+
+    private static MethodHandle createAccessor(Class<?> type, String propertyName) {
+        if (propertyName.isEmpty()) {
+            return MISSING_ACCESSOR;
+        }
+
+        if (type.isArray() && ARRAY_LENGTH_PROPERTY.equals(propertyName)) {
+            return ARRAY_LENGTH_ACCESSOR;
+        }
+
+        String capitalizedName = capitalize(propertyName);
+
+        for (String methodName : new String[]{"get" + capitalizedName, "is" + capitalizedName, propertyName}) {
+            MethodHandle accessor = findMethodAccessor(type, methodName);
+
+            if (accessor != null) {
+                return accessor;
+            }
+        }
+
+        try {
+            Field field = type.getField(propertyName);
+
+            if (!Modifier.isStatic(field.getModifiers()) && Modifier.isPublic(field.getDeclaringClass().getModifiers())) {
+                return MethodHandles.publicLookup().unreflectGetter(field).asType(ACCESSOR_TYPE);
+            }
+        } catch (NoSuchFieldException | IllegalAccessException ignored) {
+        }
+
+        return MISSING_ACCESSOR;
+    }
+
+    private static boolean isAccessor(Method method) {
+        return method.getParameterCount() == 0 && method.getReturnType() != void.class && !Modifier.isStatic(method.getModifiers());
+    }
+
+    private static MethodHandle findMethodAccessor(Class<?> type, String methodName) {
+        Deque<Class<?>> candidateTypes = new ArrayDeque<>();
+        Set<Class<?>> visitedTypes = new HashSet<>();
+
+        candidateTypes.add(type);
+
+        while (!candidateTypes.isEmpty()) {
+            Class<?> candidateType = candidateTypes.poll();
+
+            if (!visitedTypes.add(candidateType)) {
+                continue;
+            }
+
+            if (Modifier.isPublic(candidateType.getModifiers())) {
+                try {
+                    Method method = candidateType.getMethod(methodName);
+
+                    if (isAccessor(method)) {
+                        return MethodHandles.publicLookup().unreflect(method).asType(ACCESSOR_TYPE);
+                    }
+                } catch (NoSuchMethodException | IllegalAccessException ignored) {
+                }
+            }
+
+            if (candidateType.getSuperclass() != null) {
+                candidateTypes.add(candidateType.getSuperclass());
+            }
+
+            for (Class<?> interfaceType : candidateType.getInterfaces()) {
+                candidateTypes.add(interfaceType);
+            }
+        }
+
+        try {
+            Method method = type.getMethod(methodName);
+
+            if (isAccessor(method)) {
+                method.setAccessible(true);
+
+                return MethodHandles.lookup().unreflect(method).asType(ACCESSOR_TYPE);
+            }
+        } catch (NoSuchMethodException | IllegalAccessException | RuntimeException ignored) {
+        }
+
+        return null;
+    }
+}
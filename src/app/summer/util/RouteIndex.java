@@ -0,0 +1,319 @@
+package app.summer.util;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class RouteIndex {
+
+    public static final String INDEX_FILE_NAME = "summer-routes.idx";
+
+    private static final String INDEX_HEADER = "# summer route index v2";
+
+    private static final String CLASS_FILE_RECORD = "class";
+
+    private static final String COMPONENT_RECORD = "component";
+
+    private static final String ROUTE_RECORD = "route";
+
+    private static final String FIELD_SEPARATOR = "\t";
+
+    private static final String CONTENT_HASH_ALGORITHM = "SHA-256";
+
+    private final List<ClassFile> classFiles;
+
+    private final List<String> componentClassNames;
+
+    private final List<Entry> entries;
+
+    public RouteIndex(List<ClassFile> classFiles, List<String> componentClassNames, List<Entry> entries) {
+        this.classFiles = Collections.unmodifiableList(new ArrayList<>(classFiles));
+        this.componentClassNames = Collections.unmodifiableList(new ArrayList<>(componentClassNames));
+        this.entries = Collections.unmodifiableList(new ArrayList<>(entries));
+    }
+
+    public List<ClassFile> getClassFiles() {
+        return this.classFiles;
+    }
+
+    public List<String> getComponentClassNames() {
+        return this.componentClassNames;
+    }
+
+    public List<Entry> getEntries() {
+        return this.entries;
+    }
+
+    private static List<Path> findClassFiles(Path classesRootDirectory) throws IOException {
+        try (Stream<Path> paths = Files.walk(classesRootDirectory)) {
+            return paths
+                    .filter(path -> path.getFileName().toString().endsWith(".class"))
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static String getRelativePath(Path classesRootDirectory, Path classFile) {
+        return classesRootDirectory.relativize(classFile).toString().replace(File.separatorChar, '/');
+    }
+
+    private static String hashContent(Path classFile) throws IOException {
+        MessageDigest messageDigest;
+
+        try {
+            messageDigest = MessageDigest.getInstance(CONTENT_HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+
+        StringBuilder contentHash = new StringBuilder();
+
+        for (byte digestByte : messageDigest.digest(Files.readAllBytes(classFile))) {
+            contentHash.append(Character.forDigit((digestByte >> 4) & 0xF, 16)).append(Character.forDigit(digestByte & 0xF, 16));
+        }
+
+        return contentHash.toString();
+    }
+
+    public static List<ClassFile> scanClassFiles(Path classesRootDirectory) throws IOException {
+        List<ClassFile> classFiles = new ArrayList<>();
+
+        for (Path classFile : findClassFiles(classesRootDirectory)) {
+            BasicFileAttributes attributes = Files.readAttributes(classFile, BasicFileAttributes.class);
+
+            classFiles.add(new ClassFile(getRelativePath(classesRootDirectory, classFile), attributes.size(), attributes.lastModifiedTime().toMillis(), hashContent(classFile)));
+        }
+
+        return classFiles;
+    }
+
+    public boolean isUpToDate(Path classesRootDirectory) throws IOException {
+        List<Path> classFiles = findClassFiles(classesRootDirectory);
+
+        if (classFiles.size() != this.classFiles.size()) {
+            return false;
+        }
+
+        Map<String, ClassFile> indexedClassFiles = new HashMap<>();
+
+        for (ClassFile indexedClassFile : this.classFiles) {
+            indexedClassFiles.put(indexedClassFile.getRelativePath(), indexedClassFile);
+        }
+
+        for (Path classFile : classFiles) {
+            ClassFile indexedClassFile = indexedClassFiles.get(getRelativePath(classesRootDirectory, classFile));
+
+            if (indexedClassFile == null) {
+                return false;
+            }
+
+            BasicFileAttributes attributes = Files.readAttributes(classFile, BasicFileAttributes.class);
+
+            if (attributes.size() != indexedClassFile.getSize()) {
+                return false;
+            } else if (attributes.lastModifiedTime().toMillis() != indexedClassFile.getLastModified()
+                    && !hashContent(classFile).equals(indexedClassFile.getContentHash())) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public static String getMethodDescriptor(Method method) {
+        StringBuilder descriptor = new StringBuilder("(");
+
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            descriptor.append(getTypeDescriptor(parameterType));
+        }
+
+        return descriptor.append(")").append(getTypeDescriptor(method.getReturnType())).toString();
+    }
+
+    private static String getTypeDescriptor(Class<?> type) {
+        if (type.isArray()) {
+            return type.getName().replace('.', '/');
+        } else if (!type.isPrimitive()) {
+            return "L" + type.getName().replace('.', '/') + ";";
+        } else if (type == int.class) {
+            return "I";
+        } else if (type == long.class) {
+            return "J";
+        } else if (type == double.class) {
+            return "D";
+        } else if (type == float.class) {
+            return "F";
+        } else if (type == boolean.class) {
+            return "Z";
+        } else if (type == byte.class) {
+            return "B";
+        } else if (type == char.class) {
+            return "C";
+        } else if (type == short.class) {
+            return "S";
+        }
+
+        return "V";
+    }
+
+    public static RouteIndex read(Path indexFile) throws IOException {
+        if (!Files.isRegularFile(indexFile)) {
+            return null;
+        }
+
+        List<ClassFile> classFiles = new ArrayList<>();
+        List<String> componentClassNames = new ArrayList<>();
+        List<Entry> entries = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            if (!INDEX_HEADER.equals(reader.readLine())) {
+                return null;
+            }
+
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(FIELD_SEPARATOR, -1);
+
+                if (fields[0].equals(CLASS_FILE_RECORD) && fields.length == 5) {
+                    try {
+                        classFiles.add(new ClassFile(fields[1], Long.parseLong(fields[2]), Long.parseLong(fields[3]), fields[4]));
+                    } catch (NumberFormatException e) {
+                        return null;
+                    }
+                } else if (fields[0].equals(COMPONENT_RECORD) && fields.length == 2) {
+                    componentClassNames.add(fields[1]);
+                } else if (fields[0].equals(ROUTE_RECORD) && fields.length == 6) {
+                    entries.add(new Entry(fields[1], fields[2], fields[3], fields[4], fields[5]));
+                } else if (!line.isEmpty()) {
+                    return null;
+                }
+            }
+        }
+
+        return new RouteIndex(classFiles, componentClassNames, entries);
+    }
+
+    public void write(Path indexFile) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(indexFile, StandardCharsets.UTF_8)) {
+            writer.write(INDEX_HEADER);
+            writer.newLine();
+
+            for (ClassFile classFile : this.classFiles) {
+                writer.write(String.join(FIELD_SEPARATOR,
+                        CLASS_FILE_RECORD,
+                        classFile.getRelativePath(),
+                        String.valueOf(classFile.getSize()),
+                        String.valueOf(classFile.getLastModified()),
+                        classFile.getContentHash()));
+                writer.newLine();
+            }
+
+            for (String componentClassName : this.componentClassNames) {
+                writer.write(COMPONENT_RECORD + FIELD_SEPARATOR + componentClassName);
+                writer.newLine();
+            }
+
+            for (Entry entry : this.entries) {
+                writer.write(String.join(FIELD_SEPARATOR,
+                        ROUTE_RECORD,
+                        entry.getRequestMethod(),
+                        entry.getRoute(),
+                        entry.getControllerClassName(),
+                        entry.getActionName(),
+                        entry.getActionDescriptor()));
+                writer.newLine();
+            }
+        }
+    }
+
+    public static class ClassFile {
+
+        private final String relativePath;
+
+        private final long size;
+
+        private final long lastModified;
+
+        private final String contentHash;
+
+        public ClassFile(String relativePath, long size, long lastModified, String contentHash) {
+            this.relativePath = relativePath;
+            this.size = size;
+            this.lastModified = lastModified;
+            this.contentHash = contentHash;
+        }
+
+        public String getRelativePath() {
+            return this.relativePath;
+        }
+
+        public long getSize() {
+            return this.size;
+        }
+
+        public long getLastModified() {
+            return this.lastModified;
+        }
+
+        public String getContentHash() {
+            return this.contentHash;
+        }
+    }
+
+    public static class Entry {
+
+        private final String requestMethod;
+
+        private final String route;
+
+        private final String controllerClassName;
+
+        private final String actionName;
+
+        private final String actionDescriptor;
+
+        public Entry(String requestMethod, String route, String controllerClassName, String actionName, String actionDescriptor) {
+            this.requestMethod = requestMethod;
+            this.route = route;
+            this.controllerClassName = controllerClassName;
+            this.actionName = actionName;
+            this.actionDescriptor = actionDescriptor;
+        }
+
+        public String getRequestMethod() {
+            return this.requestMethod;
+        }
+
+        public String getRoute() {
+            return this.route;
+        }
+
+        public String getControllerClassName() {
+            return this.controllerClassName;
+        }
+
+        public String getActionName() {
+            return this.actionName;
+        }
+
+        public String getActionDescriptor() {
+            return this.actionDescriptor;
+        }
+    }
+}
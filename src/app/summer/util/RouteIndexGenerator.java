@@ -0,0 +1,21 @@
+package app.summer.util;
+
+import java.io.File;
+import java.nio.file.Paths;
+
+public class RouteIndexGenerator {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            System.err.println("Usage: RouteIndexGenerator <application-classes-folder>");
+            System.exit(1);
+        }
+
+        String applicationClassesFolderPath = args[0].endsWith(File.separator) ? args[0] : args[0] + File.separator;
+
+        RouteIndex routeIndex = new ControllerLoadingService().createRouteIndex(applicationClassesFolderPath);
+        routeIndex.write(Paths.get(applicationClassesFolderPath, RouteIndex.INDEX_FILE_NAME));
+
+        System.out.println("Indexed " + routeIndex.getEntries().size() + " routes into " + Paths.get(applicationClassesFolderPath, RouteIndex.INDEX_FILE_NAME));
+    }
+}
@@ -0,0 +1,49 @@
+package app.summer.util;
+
+public final class RouteMatch {
+
+    private final String routeName;
+
+    private final ControllerActionPair controllerActionPair;
+
+    private final String[] pathVariableNames;
+
+    private final String[] pathVariableValues;
+
+    RouteMatch(String routeName, ControllerActionPair controllerActionPair, String[] pathVariableNames, String[] pathVariableValues) {
+        this.routeName = routeName;
+        this.controllerActionPair = controllerActionPair;
+        this.pathVariableNames = pathVariableNames;
+        this.pathVariableValues = pathVariableValues;
+    }
+
+    public String getRouteName() {
+        return this.routeName;
+    }
+
+    public ControllerActionPair getControllerActionPair() {
+        return this.controllerActionPair;
+    }
+
+    public int getPathVariablesCount() {
+        return this.pathVariableNames.length;
+    }
+
+    public String getPathVariable(int index) {
+        if (index < 0 || index >= this.pathVariableNames.length) {
+            return null;
+        }
+
+        return this.pathVariableValues[index];
+    }
+
+    public String getPathVariable(String name) {
+        for (int i = 0; i < this.pathVariableNames.length; i++) {
+            if (this.pathVariableNames[i].equals(name)) {
+                return this.pathVariableValues[i];
+            }
+        }
+
+        return null;
+    }
+}
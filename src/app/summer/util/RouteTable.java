@@ -0,0 +1,88 @@
+package app.summer.util;
+
+import app.summer.core.DependencyContainer;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class RouteTable {
+
+    private static final String ALL_RESOURCES_URL = "*";
+
+    private final Map<String, Map<String, ControllerActionPair>> controllerActionsByRouteAndRequestMethod;
+
+    private final Map<String, RouteTrie> routeTriesByRequestMethod;
+
+    private final RouteTrie allowedMethodsTrie;
+
+    private final String serverAllowHeader;
+
+    private final List<Class<?>> controllerClasses;
+
+    private final DependencyContainer dependencyContainer;
+
+    private final long version;
+
+    RouteTable(Map<String, Map<String, ControllerActionPair>> controllerActionsByRouteAndRequestMethod,
+               Map<String, RouteTrie> routeTriesByRequestMethod,
+               RouteTrie allowedMethodsTrie,
+               Set<String> routedRequestMethods,
+               List<Class<?>> controllerClasses,
+               DependencyContainer dependencyContainer,
+               long version) {
+        Map<String, Map<String, ControllerActionPair>> controllerActions = new HashMap<>();
+
+        for (Map.Entry<String, Map<String, ControllerActionPair>> requestMethodActions : controllerActionsByRouteAndRequestMethod.entrySet()) {
+            controllerActions.put(requestMethodActions.getKey(), Collections.unmodifiableMap(requestMethodActions.getValue()));
+        }
+
+        this.controllerActionsByRouteAndRequestMethod = Collections.unmodifiableMap(controllerActions);
+        this.routeTriesByRequestMethod = Collections.unmodifiableMap(routeTriesByRequestMethod);
+        this.allowedMethodsTrie = allowedMethodsTrie;
+        this.serverAllowHeader = HttpMethods.formatAllowHeader(routedRequestMethods);
+        this.controllerClasses = Collections.unmodifiableList(controllerClasses);
+        this.dependencyContainer = dependencyContainer;
+        this.version = version;
+    }
+
+    static RouteTable empty(DependencyContainer dependencyContainer) {
+        return new RouteTable(Collections.emptyMap(), Collections.emptyMap(), new RouteTrie(HttpMethods.OPTIONS), Collections.emptySet(), Collections.emptyList(), dependencyContainer, 0);
+    }
+
+    public RouteMatch findRouteMatch(String requestMethod, String url) {
+        RouteTrie routeTrie = this.routeTriesByRequestMethod.get(requestMethod);
+
+        if (routeTrie == null) {
+            return null;
+        }
+
+        return routeTrie.findRouteMatch(url);
+    }
+
+    public String findAllowHeader(String url) {
+        if (ALL_RESOURCES_URL.equals(url)) {
+            return this.serverAllowHeader;
+        }
+
+        return this.allowedMethodsTrie.findAllowHeader(url);
+    }
+
+    public Map<String, Map<String, ControllerActionPair>> getControllerActions() {
+        return this.controllerActionsByRouteAndRequestMethod;
+    }
+
+    public List<Class<?>> getControllerClasses() {
+        return this.controllerClasses;
+    }
+
+    public DependencyContainer getDependencyContainer() {
+        return this.dependencyContainer;
+    }
+
+    public long getVersion() {
+        return this.version;
+    }
+}
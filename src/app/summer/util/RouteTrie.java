@@ -0,0 +1,291 @@
+package app.summer.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class RouteTrie {
+
+    private final String requestMethod;
+
+    private final RouteNode root;
+
+    private int maxParameterCount;
+
+    public RouteTrie(String requestMethod) {
+        this.requestMethod = requestMethod;
+        this.root = new RouteNode();
+    }
+
+    private RouteNode getOrCreateNode(String route, List<String> parameterNames) {
+        RouteNode currentNode = this.root;
+
+        for (String segment : PathFormatter.splitPath(route)) {
+            String parameterName = PathFormatter.getParameterName(segment);
+
+            if (parameterName != null) {
+                parameterNames.add(parameterName);
+                currentNode = currentNode.getOrCreateVariableChild();
+
+                continue;
+            }
+
+            Pattern segmentPattern = PathFormatter.compileSegmentPattern(segment, parameterNames);
+
+            currentNode = segmentPattern == null
+                    ? currentNode.getOrCreateLiteralChild(segment)
+                    : currentNode.getOrCreatePatternChild(segment, segmentPattern);
+        }
+
+        this.maxParameterCount = Math.max(this.maxParameterCount, parameterNames.size());
+
+        return currentNode;
+    }
+
+    public void addRoute(String route, ControllerActionPair controllerActionPair) {
+        List<String> parameterNames = new ArrayList<>();
+        RouteNode currentNode = this.getOrCreateNode(route, parameterNames);
+
+        if (currentNode.getControllerActionPair() != null) {
+            throw new IllegalStateException("Duplicate route " + this.requestMethod + " " + route + ", it is already mapped to "
+                    + currentNode.getRouteName() + " by " + currentNode.getControllerActionPair().getAction() + " and cannot be mapped again by " + controllerActionPair.getAction());
+        }
+
+        currentNode.setControllerActionPair(this.requestMethod + " " + route, controllerActionPair, parameterNames.toArray(new String[0]));
+    }
+
+    public void addAllowedMethod(String route, String requestMethod) {
+        this.getOrCreateNode(route, new ArrayList<>()).addAllowedMethod(requestMethod);
+    }
+
+    public String findAllowHeader(String url) {
+        List<RouteNode> matchedNodes = new ArrayList<>(1);
+
+        this.collectNodes(this.root, PathFormatter.splitPath(url), 0, matchedNodes);
+
+        if (matchedNodes.isEmpty()) {
+            return null;
+        } else if (matchedNodes.size() == 1) {
+            return matchedNodes.get(0).getAllowHeader();
+        }
+
+        Set<String> allowedMethods = new HashSet<>();
+
+        for (RouteNode matchedNode : matchedNodes) {
+            allowedMethods.addAll(matchedNode.getAllowedMethods());
+        }
+
+        return HttpMethods.formatAllowHeader(allowedMethods);
+    }
+
+    public RouteMatch findRouteMatch(String url) {
+        String[] segments = PathFormatter.splitPath(url);
+        String[] capturedValues = new String[this.maxParameterCount];
+
+        RouteNode matchedNode = this.findNode(this.root, segments, 0, capturedValues, 0);
+
+        if (matchedNode == null) {
+            return null;
+        }
+
+        String[] parameterNames = matchedNode.getParameterNames();
+
+        return new RouteMatch(matchedNode.getRouteName(), matchedNode.getControllerActionPair(), parameterNames, Arrays.copyOf(capturedValues, parameterNames.length));
+    }
+
+    private RouteNode findNode(RouteNode currentNode, String[] segments, int segmentIndex, String[] capturedValues, int capturedCount) {
+        if (segmentIndex == segments.length) {
+            return currentNode.isTerminal() ? currentNode : null;
+        }
+
+        String segment = segments[segmentIndex];
+
+        RouteNode literalChild = currentNode.getLiteralChild(segment);
+
+        if (literalChild != null) {
+            RouteNode matchedNode = this.findNode(literalChild, segments, segmentIndex + 1, capturedValues, capturedCount);
+
+            if (matchedNode != null) {
+                return matchedNode;
+            }
+        }
+
+        for (RouteNode patternChild : currentNode.getPatternChildren()) {
+            Matcher segmentMatcher = patternChild.getSegmentPattern().matcher(segment);
+
+            if (!segmentMatcher.matches()) {
+                continue;
+            }
+
+            for (int i = 0; i < segmentMatcher.groupCount(); i++) {
+                capturedValues[capturedCount + i] = segmentMatcher.group(i + 1);
+            }
+
+            RouteNode matchedNode = this.findNode(patternChild, segments, segmentIndex + 1, capturedValues, capturedCount + segmentMatcher.groupCount());
+
+            if (matchedNode != null) {
+                return matchedNode;
+            }
+        }
+
+        RouteNode variableChild = currentNode.getVariableChild();
+
+        if (variableChild != null && PathFormatter.isValidParameterValue(segment)) {
+            capturedValues[capturedCount] = segment;
+
+            return this.findNode(variableChild, segments, segmentIndex + 1, capturedValues, capturedCount + 1);
+        }
+
+        return null;
+    }
+
+    private void collectNodes(RouteNode currentNode, String[] segments, int segmentIndex, List<RouteNode> matchedNodes) {
+        if (segmentIndex == segments.length) {
+            if (currentNode.getAllowHeader() != null) {
+                matchedNodes.add(currentNode);
+            }
+
+            return;
+        }
+
+        String segment = segments[segmentIndex];
+        RouteNode literalChild = currentNode.getLiteralChild(segment);
+
+        if (literalChild != null) {
+            this.collectNodes(literalChild, segments, segmentIndex + 1, matchedNodes);
+        }
+
+        for (RouteNode patternChild : currentNode.getPatternChildren()) {
+            if (patternChild.getSegmentPattern().matcher(segment).matches()) {
+                this.collectNodes(patternChild, segments, segmentIndex + 1, matchedNodes);
+            }
+        }
+
+        RouteNode variableChild = currentNode.getVariableChild();
+
+        if (variableChild != null && PathFormatter.isValidParameterValue(segment)) {
+            this.collectNodes(variableChild, segments, segmentIndex + 1, matchedNodes);
+        }
+    }
+
+    private static class RouteNode {
+
+        private Map<String, RouteNode> literalChildren;
+
+        private List<RouteNode> patternChildren;
+
+        private RouteNode variableChild;
+
+        private String segmentTemplate;
+
+        private Pattern segmentPattern;
+
+        private String routeName;
+
+        private ControllerActionPair controllerActionPair;
+
+        private String[] parameterNames;
+
+        private Set<String> allowedMethods;
+
+        private String allowHeader;
+
+        private RouteNode() {
+            this.literalChildren = new HashMap<>();
+            this.patternChildren = Collections.emptyList();
+        }
+
+        private RouteNode getLiteralChild(String segment) {
+            return this.literalChildren.get(segment);
+        }
+
+        private RouteNode getOrCreateLiteralChild(String segment) {
+            return this.literalChildren.computeIfAbsent(segment, s -> new RouteNode());
+        }
+
+        private List<RouteNode> getPatternChildren() {
+            return this.patternChildren;
+        }
+
+        private RouteNode getOrCreatePatternChild(String segmentTemplate, Pattern segmentPattern) {
+            for (RouteNode patternChild : this.patternChildren) {
+                if (patternChild.segmentTemplate.equals(segmentTemplate)) {
+                    return patternChild;
+                }
+            }
+
+            if (this.patternChildren.isEmpty()) {
+                this.patternChildren = new ArrayList<>();
+            }
+
+            RouteNode patternChild = new RouteNode();
+            patternChild.segmentTemplate = segmentTemplate;
+            patternChild.segmentPattern = segmentPattern;
+            this.patternChildren.add(patternChild);
+
+            return patternChild;
+        }
+
+        private Pattern getSegmentPattern() {
+            return this.segmentPattern;
+        }
+
+        private RouteNode getVariableChild() {
+            return this.variableChild;
+        }
+
+        private RouteNode getOrCreateVariableChild() {
+            if (this.variableChild == null) {
+                this.variableChild = new RouteNode();
+            }
+
+            return this.variableChild;
+        }
+
+        private String getRouteName() {
+            return this.routeName;
+        }
+
+        private ControllerActionPair getControllerActionPair() {
+            return this.controllerActionPair;
+        }
+
+        private String[] getParameterNames() {
+            return this.parameterNames;
+        }
+
+        private Set<String> getAllowedMethods() {
+            return this.allowedMethods;
+        }
+
+        private String getAllowHeader() {
+            return this.allowHeader;
+        }
+
+        private boolean isTerminal() {
+            return this.controllerActionPair != null || this.allowHeader != null;
+        }
+
+        private void addAllowedMethod(String requestMethod) {
+            if (this.allowedMethods == null) {
+                this.allowedMethods = new HashSet<>();
+            }
+
+            this.allowedMethods.add(requestMethod);
+            this.allowHeader = HttpMethods.formatAllowHeader(this.allowedMethods);
+        }
+
+        private void setControllerActionPair(String routeName, ControllerActionPair controllerActionPair, String[] parameterNames) {
+            this.routeName = routeName;
+            this.controllerActionPair = controllerActionPair;
+            this.parameterNames = parameterNames;
+        }
+    }
+}
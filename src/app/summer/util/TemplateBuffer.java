@@ -0,0 +1,84 @@
+package app.summer.util;
+
+import java.util.Arrays;
+
+public class TemplateBuffer {
+
+    private static final int DEFAULT_CAPACITY = 8192;
+
+    private byte[] bytes;
+
+    private int size;
+
+    public TemplateBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public TemplateBuffer(int initialCapacity) {
+        this.bytes = new byte[Math.max(initialCapacity, 16)];
+    }
+
+    private void ensureCapacity(int requiredCapacity) {
+        if (requiredCapacity > this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, Math.max(requiredCapacity, this.bytes.length << 1));
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int capacity() {
+        return this.bytes.length;
+    }
+
+    public void reset() {
+        this.size = 0;
+    }
+
+    public void write(byte[] chunk) {
+        this.ensureCapacity(this.size + chunk.length);
+
+        System.arraycopy(chunk, 0, this.bytes, this.size, chunk.length);
+        this.size += chunk.length;
+    }
+
+    public void writeUtf8(CharSequence value) {
+        int length = value.length();
+
+        this.ensureCapacity(this.size + length * 3);
+
+        byte[] bytes = this.bytes;
+        int position = this.size;
+
+        for (int i = 0; i < length; i++) {
+            char currentChar = value.charAt(i);
+
+            if (currentChar < 0x80) {
+                bytes[position++] = (byte) currentChar;
+            } else if (currentChar < 0x800) {
+                bytes[position++] = (byte) (0xC0 | (currentChar >> 6));
+                bytes[position++] = (byte) (0x80 | (currentChar & 0x3F));
+            } else if (Character.isHighSurrogate(currentChar) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(currentChar, value.charAt(++i));
+
+                bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(currentChar)) {
+                bytes[position++] = (byte) '?';
+            } else {
+                bytes[position++] = (byte) (0xE0 | (currentChar >> 12));
+                bytes[position++] = (byte) (0x80 | ((currentChar >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (currentChar & 0x3F));
+            }
+        }
+
+        this.size = position;
+    }
+
+    public byte[] toByteArray() {
+        return Arrays.copyOf(this.bytes, this.size);
+    }
+}
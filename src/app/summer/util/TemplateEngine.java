@@ -3,28 +3,196 @@ package app.summer.util;
 import app.summer.api.Model;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class TemplateEngine {
 
     private static final String TEMPLATE_FILE_EXTENSION = ".html";
 
+    private static final int MAX_RETAINED_BUFFER_CAPACITY = 1024 * 1024;
+
+    private static final ThreadLocal<TemplateBuffer> TEMPLATE_BUFFERS = ThreadLocal.withInitial(TemplateBuffer::new);
+
+    private static final Pattern INCLUDE_PATTERN = Pattern.compile("\\$\\{\\s*#include\\s+([^}\\s]+)\\s*}");
+
+    private static final Pattern LAYOUT_PATTERN = Pattern.compile("\\$\\{\\s*#layout\\s+([^}\\s]+)\\s*}");
+
+    private static final Pattern BLOCK_PATTERN = Pattern.compile("\\$\\{\\s*(?:#block\\s+([^}\\s]+)|/block)\\s*}");
+
+    private static final String BLOCK_END = "${/block}";
+
     private final String applicationsTemplateFolder;
 
+    private final boolean checkForModifications;
+
+    private final Map<String, CompiledTemplate> compiledTemplates;
+
     public TemplateEngine(String applicationsTemplateFolder) {
+        this(applicationsTemplateFolder, false);
+    }
+
+    public TemplateEngine(String applicationsTemplateFolder, boolean checkForModifications) {
         this.applicationsTemplateFolder = applicationsTemplateFolder;
+        this.checkForModifications = checkForModifications;
+        this.compiledTemplates = new ConcurrentHashMap<>();
+    }
+
+    private Path getTemplatePath(String templateName) {
+        return Paths.get(this.applicationsTemplateFolder + templateName + TEMPLATE_FILE_EXTENSION);
+    }
+
+    private String expandIncludes(String templateContent, Map<String, Long> dependencies, Deque<String> resolutionPath) throws IOException {
+        Matcher includeMatcher = INCLUDE_PATTERN.matcher(templateContent);
+        StringBuffer expandedContent = new StringBuffer();
+
+        while (includeMatcher.find()) {
+            String fragmentContent = this.stripBlocks(this.resolveTemplateSource(includeMatcher.group(1), dependencies, resolutionPath));
+            includeMatcher.appendReplacement(expandedContent, Matcher.quoteReplacement(fragmentContent));
+        }
+
+        return includeMatcher.appendTail(expandedContent).toString();
+    }
+
+    private int findBlockEnd(Matcher blockMatcher, String blockName) {
+        int depth = 1;
+
+        while (blockMatcher.find()) {
+            depth += blockMatcher.group(1) != null ? 1 : -1;
+
+            if (depth == 0) {
+                return blockMatcher.start();
+            }
+        }
+
+        throw new IllegalArgumentException("Missing ${/block} for ${#block " + blockName + "}");
+    }
+
+    private Map<String, String> extractBlocks(String templateContent) {
+        Map<String, String> blocks = new HashMap<>();
+        Matcher blockMatcher = BLOCK_PATTERN.matcher(templateContent);
+        Deque<Integer> blockStarts = new ArrayDeque<>();
+        Deque<String> blockNames = new ArrayDeque<>();
+
+        while (blockMatcher.find()) {
+            if (blockMatcher.group(1) != null) {
+                blockStarts.push(blockMatcher.end());
+                blockNames.push(blockMatcher.group(1));
+            } else if (blockStarts.isEmpty()) {
+                throw new IllegalArgumentException("Unexpected ${/block}");
+            } else {
+                blocks.putIfAbsent(blockNames.pop(), templateContent.substring(blockStarts.pop(), blockMatcher.start()));
+            }
+        }
+
+        if (!blockNames.isEmpty()) {
+            throw new IllegalArgumentException("Missing ${/block} for ${#block " + blockNames.peek() + "}");
+        }
+
+        return blocks;
+    }
+
+    private String fillBlocks(String layoutContent, Map<String, String> blocks) {
+        Matcher blockMatcher = BLOCK_PATTERN.matcher(layoutContent);
+        StringBuilder filledContent = new StringBuilder();
+        int position = 0;
+
+        while (blockMatcher.find()) {
+            String blockName = blockMatcher.group(1);
+
+            if (blockName == null) {
+                throw new IllegalArgumentException("Unexpected ${/block}");
+            }
+
+            int blockStart = blockMatcher.end();
+            int blockEnd = this.findBlockEnd(blockMatcher, blockName);
+            String blockContent = blocks.containsKey(blockName)
+                    ? blocks.get(blockName)
+                    : this.fillBlocks(layoutContent.substring(blockStart, blockEnd), blocks);
+
+            filledContent.append(layoutContent, position, blockStart).append(blockContent).append(BLOCK_END);
+            position = blockMatcher.end();
+        }
+
+        return filledContent.append(layoutContent, position, layoutContent.length()).toString();
     }
 
-    private String renderTemplate(String templateContent, Model model) {
-        String renderedContent = templateContent;
+    private String stripBlocks(String templateContent) {
+        return BLOCK_PATTERN.matcher(templateContent).replaceAll("");
+    }
 
-        for (Map.Entry<String, Object> viewDataObject : model.getAttributes().entrySet()) {
-            renderedContent = renderedContent.replace("${" + viewDataObject.getKey() + "}", viewDataObject.getValue().toString());
+    private String resolveTemplateSource(String templateName, Map<String, Long> dependencies, Deque<String> resolutionPath) throws IOException {
+        if (resolutionPath.contains(templateName)) {
+            throw new IOException("Circular template composition: " + String.join(" -> ", resolutionPath) + " -> " + templateName);
         }
 
-        return renderedContent;
+        Path templatePath = this.getTemplatePath(templateName);
+
+        dependencies.put(templateName, Files.getLastModifiedTime(templatePath).toMillis());
+        resolutionPath.addLast(templateName);
+
+        try {
+            String templateContent = this.expandIncludes(String.join("", Files.readAllLines(templatePath)), dependencies, resolutionPath);
+            Matcher layoutMatcher = LAYOUT_PATTERN.matcher(templateContent);
+
+            if (!layoutMatcher.find()) {
+                return templateContent;
+            }
+
+            Map<String, String> blocks = this.extractBlocks(templateContent);
+            String layoutContent = this.resolveTemplateSource(layoutMatcher.group(1), dependencies, resolutionPath);
+
+            return this.fillBlocks(layoutContent, blocks);
+        } finally {
+            resolutionPath.removeLast();
+        }
+    }
+
+    private CompiledTemplate compileTemplate(String templateName) throws IOException {
+        Map<String, Long> dependencies = new LinkedHashMap<>();
+
+        try {
+            String templateContent = this.stripBlocks(this.resolveTemplateSource(templateName, dependencies, new ArrayDeque<>()));
+
+            return CompiledTemplate.compile(templateContent, dependencies.get(templateName), dependencies);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid template " + this.getTemplatePath(templateName) + ": " + e.getMessage(), e);
+        }
+    }
+
+    private boolean isModified(CompiledTemplate compiledTemplate) throws IOException {
+        for (Map.Entry<String, Long> dependency : compiledTemplate.getDependencies().entrySet()) {
+            Path dependencyPath = this.getTemplatePath(dependency.getKey());
+
+            if (!Files.exists(dependencyPath) || Files.getLastModifiedTime(dependencyPath).toMillis() != dependency.getValue()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private CompiledTemplate getCompiledTemplate(String templateName) throws IOException {
+        CompiledTemplate compiledTemplate = this.compiledTemplates.get(templateName);
+
+        if (compiledTemplate != null && (!this.checkForModifications || !this.isModified(compiledTemplate))) {
+            return compiledTemplate;
+        }
+
+        compiledTemplate = this.compileTemplate(templateName);
+        this.compiledTemplates.put(templateName, compiledTemplate);
+
+        return compiledTemplate;
     }
 
     private Model getNewModel() {
@@ -36,12 +204,23 @@ public class TemplateEngine {
     }
 
     public String loadTemplate(String templateName, Model model) throws IOException {
-        String templateContent = String.join("", Files.readAllLines(Paths.get(applicationsTemplateFolder + templateName + TEMPLATE_FILE_EXTENSION)));
+        return new String(this.renderTemplate(templateName, model), StandardCharsets.UTF_8);
+    }
 
-        if (model != null) {
-            templateContent = this.renderTemplate(templateContent, model);
-        }
+    public byte[] renderTemplate(String templateName, Model model) throws IOException {
+        CompiledTemplate compiledTemplate = this.getCompiledTemplate(templateName);
+        TemplateBuffer templateBuffer = TEMPLATE_BUFFERS.get();
+
+        try {
+            compiledTemplate.render(model != null ? model.getAttributes() : null, templateBuffer);
 
-        return templateContent;
+            return templateBuffer.toByteArray();
+        } finally {
+            templateBuffer.reset();
+
+            if (templateBuffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+                TEMPLATE_BUFFERS.remove();
+            }
+        }
     }
 }
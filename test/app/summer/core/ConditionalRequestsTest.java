@@ -0,0 +1,116 @@
+package app.summer.core;
+
+import app.broccolina.solet.HttpSoletRequest;
+import app.broccolina.solet.HttpSoletRequestImpl;
+import app.broccolina.solet.HttpSoletResponse;
+import app.broccolina.solet.HttpSoletResponseImpl;
+import app.javache.http.HttpStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConditionalRequestsTest {
+
+    private static final String ETAG = "\"a430d84680aabd0b\"";
+
+    private static final String LAST_MODIFIED = "Sat, 17 Oct 2026 20:00:00 GMT";
+
+    private final ConditionalRequests conditionalRequests = new ConditionalRequests();
+
+    private static HttpSoletRequest request(String method, String... headers) {
+        StringBuilder rawRequest = new StringBuilder(method).append(" /users/1 HTTP/1.1\r\nHost: localhost\r\n");
+
+        for (String header : headers) {
+            rawRequest.append(header).append("\r\n");
+        }
+
+        return new HttpSoletRequestImpl(rawRequest.append("\r\n").toString(), new ByteArrayInputStream(new byte[0]));
+    }
+
+    private static HttpSoletResponse response(HttpStatus statusCode, String eTag, String lastModified) {
+        HttpSoletResponse response = new HttpSoletResponseImpl(new ByteArrayOutputStream());
+        response.setStatusCode(statusCode);
+        response.setContent("user 1".getBytes(StandardCharsets.UTF_8));
+
+        if (eTag != null) {
+            response.addHeader(ConditionalRequests.ETAG_HEADER, eTag);
+        }
+
+        if (lastModified != null) {
+            response.addHeader(ConditionalRequests.LAST_MODIFIED_HEADER, lastModified);
+        }
+
+        return response;
+    }
+
+    @Test
+    void computeETagIsStableAndContentSensitive() {
+        byte[] content = "user 1".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(ConditionalRequests.computeETag(content), ConditionalRequests.computeETag(content.clone()));
+        assertNotEquals(ConditionalRequests.computeETag(content), ConditionalRequests.computeETag("user 2".getBytes(StandardCharsets.UTF_8)));
+        assertTrue(ConditionalRequests.computeETag(content).matches("\"[0-9a-f]{16}\""));
+    }
+
+    @Test
+    void matchesIfNoneMatchWithStrongValidator() {
+        assertTrue(ConditionalRequests.matchesIfNoneMatch(ETAG, ETAG));
+        assertTrue(ConditionalRequests.matchesIfNoneMatch("\"other\", " + ETAG, ETAG));
+        assertTrue(ConditionalRequests.matchesIfNoneMatch("*", ETAG));
+    }
+
+    @Test
+    void matchesIfNoneMatchWithWeakValidators() {
+        assertTrue(ConditionalRequests.matchesIfNoneMatch("W/" + ETAG, ETAG));
+        assertTrue(ConditionalRequests.matchesIfNoneMatch(ETAG, "W/" + ETAG));
+        assertTrue(ConditionalRequests.matchesIfNoneMatch("W/\"other\", W/" + ETAG, "W/" + ETAG));
+    }
+
+    @Test
+    void doesNotMatchDifferentValidators() {
+        assertFalse(ConditionalRequests.matchesIfNoneMatch("\"0000000000000000\"", ETAG));
+        assertFalse(ConditionalRequests.matchesIfNoneMatch("W/\"0000000000000000\"", ETAG));
+        assertFalse(ConditionalRequests.matchesIfNoneMatch("\"a,b\"", "\"a\""));
+        assertFalse(ConditionalRequests.matchesIfNoneMatch("", ETAG));
+    }
+
+    @Test
+    void isNotModifiedWhenIfNoneMatchMatches() {
+        assertTrue(this.conditionalRequests.isNotModified(request("GET", "If-None-Match: " + ETAG), response(HttpStatus.OK, ETAG, null)));
+        assertTrue(this.conditionalRequests.isNotModified(request("HEAD", "If-None-Match: W/" + ETAG), response(HttpStatus.OK, ETAG, null)));
+    }
+
+    @Test
+    void isModifiedWhenIfNoneMatchDiffers() {
+        assertFalse(this.conditionalRequests.isNotModified(request("GET", "If-None-Match: \"0000000000000000\""), response(HttpStatus.OK, ETAG, null)));
+        assertFalse(this.conditionalRequests.isNotModified(request("GET", "If-None-Match: " + ETAG), response(HttpStatus.OK, null, null)));
+    }
+
+    @Test
+    void ifNoneMatchTakesPrecedenceOverIfModifiedSince() {
+        HttpSoletRequest request = request("GET", "If-None-Match: \"0000000000000000\"", "If-Modified-Since: " + LAST_MODIFIED);
+
+        assertFalse(this.conditionalRequests.isNotModified(request, response(HttpStatus.OK, ETAG, LAST_MODIFIED)));
+    }
+
+    @Test
+    void isNotModifiedWhenNotModifiedSinceDate() {
+        assertTrue(this.conditionalRequests.isNotModified(request("GET", "If-Modified-Since: " + LAST_MODIFIED), response(HttpStatus.OK, null, LAST_MODIFIED)));
+        assertTrue(this.conditionalRequests.isNotModified(request("GET", "If-Modified-Since: Sat, 17 Oct 2026 21:00:00 GMT"), response(HttpStatus.OK, null, LAST_MODIFIED)));
+        assertFalse(this.conditionalRequests.isNotModified(request("GET", "If-Modified-Since: Sat, 17 Oct 2026 19:00:00 GMT"), response(HttpStatus.OK, null, LAST_MODIFIED)));
+        assertFalse(this.conditionalRequests.isNotModified(request("GET", "If-Modified-Since: yesterday"), response(HttpStatus.OK, null, LAST_MODIFIED)));
+    }
+
+    @Test
+    void onlySuccessfulGetAndHeadResponsesAreConditional() {
+        assertFalse(this.conditionalRequests.isNotModified(request("POST", "If-None-Match: " + ETAG), response(HttpStatus.OK, ETAG, null)));
+        assertFalse(this.conditionalRequests.isNotModified(request("GET", "If-None-Match: " + ETAG), response(HttpStatus.NOT_FOUND, ETAG, null)));
+    }
+}
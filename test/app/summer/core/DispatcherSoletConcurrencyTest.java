@@ -0,0 +1,144 @@
+package app.summer.core;
+
+import app.broccolina.solet.HttpSoletRequestImpl;
+import app.broccolina.solet.HttpSoletResponseImpl;
+import app.broccolina.solet.SoletConfigImpl;
+import app.javache.http.HttpStatus;
+import app.summer.core.concurrency.ConcurrencyController;
+import app.summer.core.concurrency.EchoForm;
+import app.summer.core.concurrency.GreetingService;
+import app.summer.core.concurrency.RequestTrace;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DispatcherSoletConcurrencyTest {
+
+    private static final Class<?>[] APPLICATION_CLASSES = {ConcurrencyController.class, GreetingService.class, RequestTrace.class, EchoForm.class};
+
+    private static final int CLIENT_THREADS = 32;
+
+    private static final int REQUESTS_PER_THREAD = 250;
+
+    @TempDir
+    Path applicationFolder;
+
+    private static void copyApplicationClasses(Path classesFolder) throws IOException {
+        for (Class<?> applicationClass : APPLICATION_CLASSES) {
+            String classFileName = applicationClass.getName().replace('.', '/') + ".class";
+            Path classFile = classesFolder.resolve(classFileName);
+
+            Files.createDirectories(classFile.getParent());
+
+            try (InputStream classFileStream = applicationClass.getClassLoader().getResourceAsStream(classFileName)) {
+                Files.copy(classFileStream, classFile);
+            }
+        }
+    }
+
+    private static HttpSoletResponseImpl dispatch(DispatcherSolet dispatcherSolet, String method, String url, String requestId, String body) {
+        String rawRequest = method + " " + url + " HTTP/1.1\r\nHost: localhost\r\n"
+                + RequestTrace.REQUEST_ID_HEADER + ": " + requestId + "\r\n"
+                + (body != null ? "Content-Type: application/x-www-form-urlencoded\r\n" : "")
+                + "\r\n" + (body != null ? body : "");
+        HttpSoletResponseImpl response = new HttpSoletResponseImpl(new ByteArrayOutputStream());
+
+        dispatcherSolet.service(new HttpSoletRequestImpl(rawRequest, new ByteArrayInputStream(new byte[0])), response);
+
+        return response;
+    }
+
+    private DispatcherSolet startApplication(String actionExecutor, String controllerInstantiation) throws IOException {
+        copyApplicationClasses(Files.createDirectories(this.applicationFolder.resolve("classes")));
+
+        Path templatesFolder = Files.createDirectories(this.applicationFolder.resolve("resources").resolve("templates"));
+        Files.write(templatesFolder.resolve("request.html"), "${id} ${traceId} ${greeting}".getBytes(StandardCharsets.UTF_8));
+
+        SoletConfigImpl soletConfig = new SoletConfigImpl();
+        soletConfig.setAttribute("application-folder", this.applicationFolder.toString() + File.separator);
+        soletConfig.setAttribute("controller-instantiation", controllerInstantiation);
+
+        if (!actionExecutor.isEmpty()) {
+            soletConfig.setAttribute("action-executor", actionExecutor);
+        }
+
+        DispatcherSolet dispatcherSolet = new DispatcherSolet();
+        dispatcherSolet.init(soletConfig);
+
+        return dispatcherSolet;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"'', eager", "'', lazy", "pool, eager", "pool, lazy"})
+    void concurrentRequestsDoNotShareRequestState(String actionExecutor, String controllerInstantiation) throws Exception {
+        DispatcherSolet dispatcherSolet = this.startApplication(actionExecutor, controllerInstantiation);
+        Queue<String> failures = new ConcurrentLinkedQueue<>();
+        Set<String> greetingSources = ConcurrentHashMap.newKeySet();
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Thread> clientThreads = new ArrayList<>();
+
+        try {
+            for (int t = 0; t < CLIENT_THREADS; t++) {
+                int clientId = t;
+                Thread clientThread = new Thread(() -> {
+                    try {
+                        startGate.await();
+
+                        for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                            String id = "c" + clientId + "r" + i;
+                            HttpSoletResponseImpl response = i % 2 == 0
+                                    ? dispatch(dispatcherSolet, "GET", "/requests/" + id, id, null)
+                                    : dispatch(dispatcherSolet, "POST", "/forms/" + id, id, "value=" + id);
+                            String content = new String(response.getContent(), StandardCharsets.UTF_8);
+                            String expectedPrefix = i % 2 == 0 ? id + " " + id + " hello " + id + " from " : id + " " + id + " " + id;
+
+                            if (response.getStatusCode() != HttpStatus.OK || !content.startsWith(expectedPrefix)) {
+                                failures.add(id + " -> " + response.getStatusCode() + " " + content);
+                            } else if (i % 2 == 0) {
+                                greetingSources.add(content.substring(expectedPrefix.length()));
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failures.add("client " + clientId + " interrupted");
+                    }
+                });
+
+                clientThread.start();
+                clientThreads.add(clientThread);
+            }
+
+            startGate.countDown();
+
+            for (Thread clientThread : clientThreads) {
+                clientThread.join(TimeUnit.MINUTES.toMillis(1));
+                assertTrue(!clientThread.isAlive(), "client thread did not finish");
+            }
+        } finally {
+            dispatcherSolet.destroy();
+        }
+
+        assertTrue(failures.isEmpty(), () -> failures.size() + " leaked or failed requests, e.g. " + failures.peek());
+        assertEquals(1, greetingSources.size(), "singleton component was instantiated more than once: " + greetingSources);
+    }
+}
@@ -0,0 +1,36 @@
+package app.summer.core.concurrency;
+
+import app.summer.api.Controller;
+import app.summer.api.GetMapping;
+import app.summer.api.Model;
+import app.summer.api.PathVariable;
+import app.summer.api.PostMapping;
+
+@Controller
+public class ConcurrencyController {
+
+    private final GreetingService greetingService;
+
+    public ConcurrencyController(GreetingService greetingService) {
+        this.greetingService = greetingService;
+    }
+
+    @GetMapping(route = "/requests/{id}")
+    public String request(@PathVariable(name = "id") String id, RequestTrace requestTrace, Model model) {
+        model.addAttributes("id", id);
+
+        Thread.yield();
+
+        model.addAttributes("traceId", requestTrace.getRequestId());
+        model.addAttributes("greeting", this.greetingService.greet(id));
+
+        return "template:request";
+    }
+
+    @PostMapping(route = "/forms/{id}")
+    public String form(@PathVariable(name = "id") String id, EchoForm echoForm, RequestTrace requestTrace) {
+        Thread.yield();
+
+        return id + " " + echoForm.value + " " + requestTrace.getRequestId();
+    }
+}
@@ -0,0 +1,6 @@
+package app.summer.core.concurrency;
+
+public class EchoForm {
+
+    public String value;
+}
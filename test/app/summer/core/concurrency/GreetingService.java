@@ -0,0 +1,21 @@
+package app.summer.core.concurrency;
+
+import app.summer.api.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class GreetingService {
+
+    private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+    private final int instanceId;
+
+    public GreetingService() {
+        this.instanceId = INSTANCES.incrementAndGet();
+    }
+
+    public String greet(String name) {
+        return "hello " + name + " from " + this.instanceId;
+    }
+}
@@ -0,0 +1,21 @@
+package app.summer.core.concurrency;
+
+import app.broccolina.solet.HttpSoletRequest;
+import app.summer.api.Component;
+import app.summer.api.Scope;
+
+@Component(scope = Scope.REQUEST)
+public class RequestTrace {
+
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+
+    private final String requestId;
+
+    public RequestTrace(HttpSoletRequest request) {
+        this.requestId = request.getHeaders().get(REQUEST_ID_HEADER);
+    }
+
+    public String getRequestId() {
+        return this.requestId;
+    }
+}
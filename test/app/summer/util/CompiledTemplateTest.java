@@ -0,0 +1,60 @@
+package app.summer.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CompiledTemplateTest {
+
+    private static String render(String templateContent, Map<String, Object> attributes) {
+        TemplateBuffer templateBuffer = new TemplateBuffer();
+
+        CompiledTemplate.compile(templateContent, 0).render(attributes, templateBuffer);
+
+        return new String(templateBuffer.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void resolvesDottedModelKeyBeforePropertyPath() {
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("user.name", "Ann");
+
+        assertEquals("Hello Ann", render("Hello ${user.name}", attributes));
+    }
+
+    @Test
+    void traversesPropertyPathWhenDottedKeyIsMissing() {
+        Map<String, Object> user = new HashMap<>();
+        user.put("name", "Bob");
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("user", user);
+
+        assertEquals("Hello Bob", render("Hello ${user.name}", attributes));
+    }
+
+    @Test
+    void loopVariableShadowsDottedModelKey() {
+        Map<String, Object> first = new HashMap<>();
+        first.put("name", "Ann");
+
+        Map<String, Object> second = new HashMap<>();
+        second.put("name", "Bob");
+
+        Map<String, Object> attributes = new HashMap<>();
+        attributes.put("users", Arrays.asList(first, second));
+        attributes.put("user.name", "model");
+
+        assertEquals("Ann,Bob,", render("${#for user : users}${user.name},${/for}", attributes));
+    }
+
+    @Test
+    void leavesUnresolvedPlaceholderInPlace() {
+        assertEquals("Hello ${user.name}", render("Hello ${user.name}", new HashMap<>()));
+    }
+}
@@ -0,0 +1,104 @@
+package app.summer.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteIndexTest {
+
+    @TempDir
+    Path classesFolder;
+
+    private Path writeClassFile(String relativePath, String content) throws IOException {
+        Path classFile = this.classesFolder.resolve(relativePath);
+
+        Files.createDirectories(classFile.getParent());
+        Files.write(classFile, content.getBytes(StandardCharsets.UTF_8));
+
+        return classFile;
+    }
+
+    private RouteIndex writeAndReadIndex() throws IOException {
+        RouteIndex routeIndex = new RouteIndex(
+                RouteIndex.scanClassFiles(this.classesFolder),
+                Collections.singletonList("app.UserService"),
+                Collections.singletonList(new RouteIndex.Entry("GET", "/users/{id}", "app.UserController", "user", "(I)Ljava/lang/String;")));
+
+        routeIndex.write(this.classesFolder.resolve(RouteIndex.INDEX_FILE_NAME));
+
+        return RouteIndex.read(this.classesFolder.resolve(RouteIndex.INDEX_FILE_NAME));
+    }
+
+    @Test
+    void roundTripsManifestAndRoutes() throws IOException {
+        this.writeClassFile("app/UserController.class", "controller");
+
+        RouteIndex routeIndex = this.writeAndReadIndex();
+
+        assertNotNull(routeIndex);
+        assertEquals("app/UserController.class", routeIndex.getClassFiles().get(0).getRelativePath());
+        assertEquals(10, routeIndex.getClassFiles().get(0).getSize());
+        assertEquals("/users/{id}", routeIndex.getEntries().get(0).getRoute());
+        assertEquals(Collections.singletonList("app.UserService"), routeIndex.getComponentClassNames());
+        assertTrue(routeIndex.isUpToDate(this.classesFolder));
+    }
+
+    @Test
+    void staysUpToDateWhenOnlyModificationTimeChanges() throws IOException {
+        Path classFile = this.writeClassFile("app/UserController.class", "controller");
+        RouteIndex routeIndex = this.writeAndReadIndex();
+
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(Files.getLastModifiedTime(classFile).toMillis() + 60_000));
+
+        assertTrue(routeIndex.isUpToDate(this.classesFolder));
+    }
+
+    @Test
+    void detectsChangedContentWithSameSize() throws IOException {
+        Path classFile = this.writeClassFile("app/UserController.class", "controller");
+        RouteIndex routeIndex = this.writeAndReadIndex();
+        FileTime lastModified = Files.getLastModifiedTime(classFile);
+
+        Files.write(classFile, "Controller".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(classFile, FileTime.fromMillis(lastModified.toMillis() + 60_000));
+
+        assertFalse(routeIndex.isUpToDate(this.classesFolder));
+    }
+
+    @Test
+    void detectsAddedRemovedAndResizedClassFiles() throws IOException {
+        Path classFile = this.writeClassFile("app/UserController.class", "controller");
+        RouteIndex routeIndex = this.writeAndReadIndex();
+
+        Path addedClassFile = this.writeClassFile("app/OrderController.class", "orders");
+        assertFalse(routeIndex.isUpToDate(this.classesFolder));
+
+        Files.delete(addedClassFile);
+        assertTrue(routeIndex.isUpToDate(this.classesFolder));
+
+        Files.write(classFile, "controller v2".getBytes(StandardCharsets.UTF_8));
+        assertFalse(routeIndex.isUpToDate(this.classesFolder));
+
+        Files.delete(classFile);
+        assertFalse(routeIndex.isUpToDate(this.classesFolder));
+    }
+
+    @Test
+    void rejectsIndexFromOlderFormat() throws IOException {
+        Files.write(this.classesFolder.resolve(RouteIndex.INDEX_FILE_NAME), "# summer route index v1\nclasses\t1:abc\n".getBytes(StandardCharsets.UTF_8));
+
+        assertNull(RouteIndex.read(this.classesFolder.resolve(RouteIndex.INDEX_FILE_NAME)));
+    }
+}
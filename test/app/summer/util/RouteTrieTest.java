@@ -0,0 +1,105 @@
+package app.summer.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RouteTrieTest {
+
+    private final ControllerActionPair controllerActionPair = createControllerActionPair("action");
+
+    public String action() {
+        return "action";
+    }
+
+    public String otherAction() {
+        return "other";
+    }
+
+    private ControllerActionPair createControllerActionPair(String actionName) {
+        try {
+            return new ControllerActionPair(this, RouteTrieTest.class.getMethod(actionName));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static RouteTrie allowedMethodsTrie() {
+        RouteTrie allowedMethodsTrie = new RouteTrie(HttpMethods.OPTIONS);
+        allowedMethodsTrie.addAllowedMethod("/users/new", HttpMethods.POST);
+        allowedMethodsTrie.addAllowedMethod("/users/{id}", HttpMethods.GET);
+        allowedMethodsTrie.addAllowedMethod("/users/{id}", HttpMethods.DELETE);
+
+        return allowedMethodsTrie;
+    }
+
+    @Test
+    void allowHeaderUnionsLiteralAndVariableMatches() {
+        assertEquals("GET, HEAD, POST, DELETE, OPTIONS", allowedMethodsTrie().findAllowHeader("/users/new"));
+    }
+
+    @Test
+    void allowHeaderOfSingleMatch() {
+        assertEquals("GET, HEAD, DELETE, OPTIONS", allowedMethodsTrie().findAllowHeader("/users/7"));
+    }
+
+    @Test
+    void allowHeaderOfUnknownUrlIsNull() {
+        assertNull(allowedMethodsTrie().findAllowHeader("/orders/7"));
+    }
+
+    @Test
+    void matchesVariablesEmbeddedInSegments() {
+        RouteTrie routeTrie = new RouteTrie(HttpMethods.GET);
+        routeTrie.addRoute("/files/{name}.html", this.controllerActionPair);
+        routeTrie.addRoute("/range/{from}-{to}", this.controllerActionPair);
+
+        RouteMatch fileMatch = routeTrie.findRouteMatch("/files/index.html");
+        RouteMatch rangeMatch = routeTrie.findRouteMatch("/range/2024-2025");
+
+        assertEquals("index", fileMatch.getPathVariable("name"));
+        assertEquals("2024", rangeMatch.getPathVariable("from"));
+        assertEquals("2025", rangeMatch.getPathVariable("to"));
+        assertNull(routeTrie.findRouteMatch("/files/indexXhtml"));
+        assertNull(routeTrie.findRouteMatch("/files/.html"));
+    }
+
+    @Test
+    void prefersLiteralSegmentsOverEmbeddedAndWholeVariables() {
+        RouteTrie routeTrie = new RouteTrie(HttpMethods.GET);
+        routeTrie.addRoute("/files/{id}", this.controllerActionPair);
+        routeTrie.addRoute("/files/{name}.html", this.controllerActionPair);
+        routeTrie.addRoute("/files/index.html", this.controllerActionPair);
+
+        assertEquals("GET /files/index.html", routeTrie.findRouteMatch("/files/index.html").getRouteName());
+        assertEquals("GET /files/{name}.html", routeTrie.findRouteMatch("/files/about.html").getRouteName());
+        assertEquals("GET /files/{id}", routeTrie.findRouteMatch("/files/about").getRouteName());
+    }
+
+    @Test
+    void allowHeaderIncludesEmbeddedVariableRoutes() {
+        RouteTrie allowedMethodsTrie = allowedMethodsTrie();
+        allowedMethodsTrie.addAllowedMethod("/users/{id}.json", HttpMethods.PUT);
+
+        assertEquals("PUT, OPTIONS", allowedMethodsTrie.findAllowHeader("/users/7.json"));
+    }
+
+    @Test
+    void rejectsDuplicateRoutes() {
+        RouteTrie routeTrie = new RouteTrie(HttpMethods.GET);
+        routeTrie.addRoute("/users/{id}", this.controllerActionPair);
+
+        assertThrows(IllegalStateException.class, () -> routeTrie.addRoute("/users/{id}", createControllerActionPair("otherAction")));
+        assertThrows(IllegalStateException.class, () -> routeTrie.addRoute("/users/{name}", createControllerActionPair("otherAction")));
+    }
+
+    @Test
+    void rejectsMalformedVariables() {
+        RouteTrie routeTrie = new RouteTrie(HttpMethods.GET);
+
+        assertThrows(IllegalArgumentException.class, () -> routeTrie.addRoute("/users/{id2}", this.controllerActionPair));
+        assertThrows(IllegalArgumentException.class, () -> routeTrie.addRoute("/users/{id", this.controllerActionPair));
+    }
+}